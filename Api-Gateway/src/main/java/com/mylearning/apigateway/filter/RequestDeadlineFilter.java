@@ -0,0 +1,70 @@
+package com.mylearning.apigateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Gives every routed request a deadline: the client's {@code X-Request-Timeout} (milliseconds), capped at
+ * {@code gateway.request-timeout-ms}, or that default when the client sent none. Services read the header,
+ * pass the remaining time on to their own downstream calls and stop work once it has run out. The gateway
+ * itself answers 504 if the deadline passes before the route starts responding; a response whose headers are
+ * already committed, such as the NDJSON order export, is left to stream for as long as it takes.
+ */
+@Component
+public class RequestDeadlineFilter implements GlobalFilter, Ordered {
+
+    static final String HEADER = "X-Request-Timeout";
+
+    @Value("${gateway.request-timeout-ms:10000}")
+    private long maxTimeoutMs;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long timeoutMs = timeoutMs(exchange.getRequest().getHeaders().getFirst(HEADER));
+        if (timeoutMs <= 0) {
+            exchange.getResponse().setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+            return exchange.getResponse().setComplete();
+        }
+        ServerWebExchange withDeadline = exchange.mutate()
+                .request(request -> request.headers(headers -> headers.set(HEADER, String.valueOf(timeoutMs))))
+                .build();
+        return chain.filter(withDeadline)
+                .timeout(untilCommitted(exchange, timeoutMs), Mono.defer(() -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+                    return exchange.getResponse().setComplete();
+                }));
+    }
+
+    /**
+     * Fires once the deadline passes, unless the route has already committed its response by then.
+     */
+    private Mono<Long> untilCommitted(ServerWebExchange exchange, long timeoutMs) {
+        return Mono.delay(Duration.ofMillis(timeoutMs))
+                .filter(tick -> !exchange.getResponse().isCommitted())
+                .switchIfEmpty(Mono.never());
+    }
+
+    private long timeoutMs(String header) {
+        if (header != null) {
+            try {
+                return Math.min(Long.parseLong(header.trim()), maxTimeoutMs);
+            } catch (NumberFormatException ignored) {
+                // fall back to the default deadline
+            }
+        }
+        return maxTimeoutMs;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
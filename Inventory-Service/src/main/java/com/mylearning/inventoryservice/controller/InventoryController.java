@@ -27,6 +27,11 @@ public class InventoryController {
         return ResponseEntity.ok(inventoryService.isInStock(productCode));
     }
 
+    @PostMapping("/areInStock")
+    public ResponseEntity<List<InventoryResponseDto>> areInStock(@RequestBody List<String> productCodes) {
+        return ResponseEntity.ok(inventoryService.areInStock(productCodes));
+    }
+
     @GetMapping
     public ResponseEntity<List<InventoryResponseDto>> getAll() {
         return ResponseEntity.ok(inventoryService.getAll());
@@ -75,6 +75,24 @@ class InventoryControllerTest {
         verify(inventoryService, times(1)).isInStock(TEST_PRODUCT_CODE);
     }
 
+    @Test
+    void areInStock_ShouldReturnStatusPerProduct() throws Exception {
+        List<String> productCodes = Arrays.asList(TEST_PRODUCT_CODE, "EMPTY");
+        when(inventoryService.areInStock(productCodes)).thenReturn(Arrays.asList(
+                testResponseDto,
+                InventoryResponseDto.builder().productCode("EMPTY").quantity(0).build()));
+
+        mockMvc.perform(post(BASE_URL + "/areInStock")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productCodes)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].inStock", is(true)))
+                .andExpect(jsonPath("$[1].inStock", is(false)));
+
+        verify(inventoryService, times(1)).areInStock(productCodes);
+    }
+
     @Test
     void getAll_ShouldReturnAllInventories() throws Exception {
         List<InventoryResponseDto> inventories = Arrays.asList(
@@ -0,0 +1,299 @@
+package com.mylearning.orderservice.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * One immutable archive file: a header, the orders sorted by (orderDate, id) as length-prefixed records, and three
+ * indexes into them: every record by id, every {@value #INDEX_INTERVAL}th record by (orderDate, id), and every record
+ * by user. The file is written once (fsync'ed, then atomically renamed into place) and afterwards only read, through
+ * a read-only memory mapping. Version 1 segments (records by id, sparse id index only) are rewritten when opened.
+ *
+ * <pre>
+ * header:     magic, version, count, dateIndexEntries (int) | minId, maxId, minEpochSecond, maxEpochSecond,
+ *             idIndexOffset, dateIndexOffset, userIndexOffset (long)
+ * record:     length (int) | ArchivedOrder encoding
+ * id index:   (id, offset) per record, by id (long, long)
+ * date index: (epochSecond, nano, id, offset) per {@value #INDEX_INTERVAL} records (long, long, long, long)
+ * user index: (userId, offset) per record, by user and then (orderDate, id) (long, long)
+ * </pre>
+ */
+public final class ArchiveSegment {
+
+    static final int INDEX_INTERVAL = 64;
+
+    private static final int MAGIC = 0x4F415243;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + 7 * Long.BYTES;
+    private static final int ID_ENTRY_BYTES = 2 * Long.BYTES;
+    private static final int DATE_ENTRY_BYTES = 4 * Long.BYTES;
+    private static final int USER_ENTRY_BYTES = 2 * Long.BYTES;
+    private static final Comparator<ArchivedOrder> BY_DATE_AND_ID =
+            Comparator.comparing(ArchivedOrder::orderDate).thenComparing(ArchivedOrder::id);
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int dateIndexEntries;
+    private final long minId;
+    private final long maxId;
+    private final long minEpochSecond;
+    private final long maxEpochSecond;
+    private final int idIndexOffset;
+    private final int dateIndexOffset;
+    private final int userIndexOffset;
+
+    private ArchiveSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.dateIndexEntries = buffer.getInt(12);
+        this.minId = buffer.getLong(16);
+        this.maxId = buffer.getLong(24);
+        this.minEpochSecond = buffer.getLong(32);
+        this.maxEpochSecond = buffer.getLong(40);
+        this.idIndexOffset = (int) buffer.getLong(48);
+        this.dateIndexOffset = (int) buffer.getLong(56);
+        this.userIndexOffset = (int) buffer.getLong(64);
+    }
+
+    /**
+     * Writes {@code orders} as a new segment at {@code target} and maps it.
+     */
+    static ArchiveSegment write(Path target, List<ArchivedOrder> orders) {
+        List<ArchivedOrder> sorted = new ArrayList<>(orders);
+        sorted.sort(BY_DATE_AND_ID);
+        List<byte[]> records = sorted.stream().map(ArchivedOrder::encode).toList();
+        int count = records.size();
+
+        long recordBytes = records.stream().mapToLong(record -> Integer.BYTES + record.length).sum();
+        int dateIndexEntries = (count + INDEX_INTERVAL - 1) / INDEX_INTERVAL;
+        long idIndexOffset = HEADER_BYTES + recordBytes;
+        long dateIndexOffset = idIndexOffset + (long) count * ID_ENTRY_BYTES;
+        long userIndexOffset = dateIndexOffset + (long) dateIndexEntries * DATE_ENTRY_BYTES;
+        long size = userIndexOffset + (long) count * USER_ENTRY_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Archive segment too large: " + size + " bytes");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(dateIndexEntries)
+                .putLong(sorted.stream().mapToLong(ArchivedOrder::id).min().orElseThrow())
+                .putLong(sorted.stream().mapToLong(ArchivedOrder::id).max().orElseThrow())
+                .putLong(sorted.get(0).orderDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(sorted.get(count - 1).orderDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(idIndexOffset)
+                .putLong(dateIndexOffset)
+                .putLong(userIndexOffset);
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = out.position();
+            out.putInt(records.get(i).length).put(records.get(i));
+        }
+        IntStream.range(0, count).boxed()
+                .sorted(Comparator.comparing(i -> sorted.get(i).id()))
+                .forEach(i -> out.putLong(sorted.get(i).id()).putLong(offsets[i]));
+        for (int i = 0; i < count; i += INDEX_INTERVAL) {
+            LocalDateTime orderDate = sorted.get(i).orderDate();
+            out.putLong(orderDate.toEpochSecond(ZoneOffset.UTC)).putLong(orderDate.getNano())
+                    .putLong(sorted.get(i).id()).putLong(offsets[i]);
+        }
+        // Stable sort: a user's entries stay in (orderDate, id) order
+        IntStream.range(0, count).boxed()
+                .sorted(Comparator.comparing(i -> sorted.get(i).userId()))
+                .forEach(i -> out.putLong(sorted.get(i).userId()).putLong(offsets[i]));
+        out.flip();
+
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment " + target.getFileName(), e);
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit archive segment " + target.getFileName(), e);
+        }
+        return open(target);
+    }
+
+    static ArchiveSegment open(Path file) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map archive segment " + file.getFileName(), e);
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not an order archive segment: " + file);
+        }
+        int version = buffer.getInt(4);
+        if (version == 1) {
+            return write(file, readVersion1(buffer));
+        }
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported order archive segment version " + version + ": " + file);
+        }
+        return new ArchiveSegment(file, buffer);
+    }
+
+    /**
+     * Binary search over the id index; decodes only the matching record.
+     */
+    public Optional<ArchivedOrder> find(long id) {
+        if (id < minId || id > maxId) {
+            return Optional.empty();
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(idIndexOffset + mid * ID_ENTRY_BYTES);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return Optional.of(decodeAt((int) buffer.getLong(idIndexOffset + mid * ID_ENTRY_BYTES + Long.BYTES)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Visits orders in (orderDate, id) order until {@code visitor} returns false, starting at the closest indexed
+     * record at or before the (orderDate, id) key, or at the first record when {@code orderDate} is null. At most
+     * {@value #INDEX_INTERVAL} records before the key are visited; callers skip them.
+     */
+    public void scanFrom(LocalDateTime orderDate, long id, Predicate<ArchivedOrder> visitor) {
+        int offset = orderDate == null ? HEADER_BYTES : seek(orderDate, id);
+        while (offset < idIndexOffset) {
+            if (!visitor.test(decodeAt(offset))) {
+                return;
+            }
+            offset += Integer.BYTES + buffer.getInt(offset);
+        }
+    }
+
+    /**
+     * Visits one user's orders, newest first, until {@code visitor} returns false. Only that user's records are read.
+     */
+    public void scanUserNewestFirst(long userId, Predicate<ArchivedOrder> visitor) {
+        for (int entry = firstUserEntryAfter(userId) - 1; entry >= 0; entry--) {
+            int position = userIndexOffset + entry * USER_ENTRY_BYTES;
+            if (buffer.getLong(position) != userId) {
+                return;
+            }
+            if (!visitor.test(decodeAt((int) buffer.getLong(position + Long.BYTES)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Visits every order in (orderDate, id) order.
+     */
+    public void forEach(Consumer<ArchivedOrder> consumer) {
+        scanFrom(null, 0L, order -> {
+            consumer.accept(order);
+            return true;
+        });
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getMinEpochSecond() {
+        return minEpochSecond;
+    }
+
+    public long getMaxEpochSecond() {
+        return maxEpochSecond;
+    }
+
+    /**
+     * Offset of the last indexed record whose (orderDate, id) is at or before the key, or of the first record.
+     */
+    private int seek(LocalDateTime orderDate, long id) {
+        long epochSecond = orderDate.toEpochSecond(ZoneOffset.UTC);
+        int low = 0;
+        int high = dateIndexEntries - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int position = dateIndexOffset + mid * DATE_ENTRY_BYTES;
+            int byKey = Long.compare(buffer.getLong(position), epochSecond);
+            if (byKey == 0) {
+                byKey = Long.compare(buffer.getLong(position + Long.BYTES), orderDate.getNano());
+            }
+            if (byKey == 0) {
+                byKey = Long.compare(buffer.getLong(position + 2 * Long.BYTES), id);
+            }
+            if (byKey <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? HEADER_BYTES : (int) buffer.getLong(dateIndexOffset + found * DATE_ENTRY_BYTES + 3 * Long.BYTES);
+    }
+
+    /**
+     * Index of the first user index entry for a user after {@code userId}, or the entry count.
+     */
+    private int firstUserEntryAfter(long userId) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(userIndexOffset + mid * USER_ENTRY_BYTES) <= userId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ArchivedOrder decodeAt(int offset) {
+        return ArchivedOrder.decode(buffer, offset + Integer.BYTES);
+    }
+
+    /**
+     * Orders of a version 1 segment, whose records start right after its 56-byte header and end at its index.
+     */
+    private static List<ArchivedOrder> readVersion1(ByteBuffer buffer) {
+        int recordsEnd = (int) buffer.getLong(48);
+        List<ArchivedOrder> orders = new ArrayList<>(buffer.getInt(8));
+        for (int offset = 4 * Integer.BYTES + 5 * Long.BYTES; offset < recordsEnd; offset += Integer.BYTES + buffer.getInt(offset)) {
+            orders.add(ArchivedOrder.decode(buffer, offset + Integer.BYTES));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,146 @@
+package com.mylearning.orderservice.archive;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderLine;
+import com.mylearning.orderservice.entity.OrderStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of an order (and its cart lines) as stored in an archive segment, with its binary encoding.
+ * Prices are written as NaN when the order has none.
+ */
+public record ArchivedOrder(Long id, Long userId, String productCode, int quantity, LocalDateTime orderDate,
+                            OrderStatus status, Double unitPrice, Double totalAmount, List<Line> lines) {
+
+    public record Line(String productCode, int quantity, double unitPrice) {
+    }
+
+    public static ArchivedOrder of(Order order) {
+        List<Line> lines = order.getLines().stream()
+                .map(line -> new Line(line.getProductCode(), line.getQuantity(), line.getUnitPrice()))
+                .toList();
+        return new ArchivedOrder(order.getId(), order.getUserId(), order.getProductCode(), order.getQuantity(),
+                order.getOrderDate(), order.getStatus(), order.getUnitPrice(), order.getTotalAmount(), lines);
+    }
+
+    /**
+     * Detached {@link Order} for code that maps entities to responses; it is never attached to a persistence context.
+     */
+    public Order toOrder() {
+        Order order = Order.builder()
+                .id(id)
+                .userId(userId)
+                .productCode(productCode)
+                .quantity(quantity)
+                .orderDate(orderDate)
+                .status(status)
+                .unitPrice(unitPrice)
+                .totalAmount(totalAmount)
+                .build();
+        lines.forEach(line -> order.getLines().add(OrderLine.builder()
+                .order(order)
+                .productCode(line.productCode())
+                .quantity(line.quantity())
+                .unitPrice(line.unitPrice())
+                .build()));
+        return order;
+    }
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(id);
+            out.writeLong(userId);
+            writeString(out, productCode);
+            out.writeInt(quantity);
+            out.writeLong(orderDate.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(orderDate.getNano());
+            writeString(out, status.name());
+            out.writeDouble(unitPrice == null ? Double.NaN : unitPrice);
+            out.writeDouble(totalAmount == null ? Double.NaN : totalAmount);
+            out.writeInt(lines.size());
+            for (Line line : lines) {
+                writeString(out, line.productCode());
+                out.writeInt(line.quantity());
+                out.writeDouble(line.unitPrice());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the record starting at {@code offset}; uses absolute reads only, so the buffer can be shared by readers.
+     */
+    static ArchivedOrder decode(ByteBuffer buffer, int offset) {
+        Reader in = new Reader(buffer, offset);
+        long id = in.readLong();
+        long userId = in.readLong();
+        String productCode = in.readString();
+        int quantity = in.readInt();
+        LocalDateTime orderDate = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        OrderStatus status = OrderStatus.valueOf(in.readString());
+        double unitPrice = in.readDouble();
+        double totalAmount = in.readDouble();
+        int lineCount = in.readInt();
+        List<Line> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new Line(in.readString(), in.readInt(), in.readDouble()));
+        }
+        return new ArchivedOrder(id, userId, productCode, quantity, orderDate, status,
+                Double.isNaN(unitPrice) ? null : unitPrice, Double.isNaN(totalAmount) ? null : totalAmount, List.copyOf(lines));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+        private int position;
+
+        private Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        private long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        private int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        private double readDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        private String readString() {
+            byte[] bytes = new byte[readInt()];
+            buffer.get(position, bytes);
+            position += bytes.length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.mylearning.orderservice.archive;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cold storage for old orders, partitioned by month of order date. Each archival run adds new immutable
+ * {@link ArchiveSegment}s ({@code orders-<yyyy-MM>-<sequence>.seg}); nothing is ever rewritten. Segments are
+ * memory-mapped at startup, so lookups read straight from the page cache without copying the file into the heap.
+ */
+@Slf4j
+@Component
+public class OrderArchive {
+
+    private static final Comparator<ArchivedOrder> BY_DATE_AND_ID =
+            Comparator.comparing(ArchivedOrder::orderDate).thenComparing(ArchivedOrder::id);
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+
+    public OrderArchive(@Value("${order.archive.directory:data/order-archive}") String directory, MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        open();
+        Gauge.builder("order.archive.segments", segments, List::size).register(meterRegistry);
+        Gauge.builder("order.archive.orders", this, OrderArchive::size).register(meterRegistry);
+    }
+
+    /**
+     * Writes the orders into one new segment per month.
+     */
+    public synchronized void append(List<ArchivedOrder> orders) {
+        Map<YearMonth, List<ArchivedOrder>> byMonth = orders.stream()
+                .collect(Collectors.groupingBy(order -> YearMonth.from(order.orderDate()), TreeMap::new, Collectors.toList()));
+        byMonth.forEach((month, monthOrders) -> {
+            Path file = directory.resolve(String.format("orders-%s-%012d%s", month, sequence.incrementAndGet(), SUFFIX));
+            segments.add(ArchiveSegment.write(file, monthOrders));
+            log.info("Archived {} orders from {} to {}", monthOrders.size(), month, file.getFileName());
+        });
+    }
+
+    public Optional<ArchivedOrder> find(Long id) {
+        for (ArchiveSegment segment : segments) {
+            Optional<ArchivedOrder> order = segment.find(id);
+            if (order.isPresent()) {
+                return order;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The ids among {@code ids} that are archived.
+     */
+    public Set<Long> findArchivedIds(Collection<Long> ids) {
+        return ids.stream().filter(id -> find(id).isPresent()).collect(Collectors.toSet());
+    }
+
+    /**
+     * Up to {@code limit} orders after the (orderDate, id) cursor in ascending order, or from the oldest when
+     * {@code orderDate} is null. Segments entirely before the cursor are skipped without being read; the others are
+     * entered through their date index and read only until they have supplied a page.
+     */
+    public List<ArchivedOrder> findPageAfter(LocalDateTime orderDate, Long id, int limit) {
+        long cursorSecond = orderDate == null ? Long.MIN_VALUE : orderDate.toEpochSecond(ZoneOffset.UTC);
+        List<ArchivedOrder> matches = new ArrayList<>();
+        for (ArchiveSegment segment : sortedByDate()) {
+            if (segment.getMaxEpochSecond() < cursorSecond) {
+                continue;
+            }
+            // Later segments cannot hold anything earlier than what is already collected
+            if (matches.size() >= limit && segment.getMinEpochSecond() > matches.get(limit - 1).orderDate().toEpochSecond(ZoneOffset.UTC)) {
+                break;
+            }
+            List<ArchivedOrder> page = new ArrayList<>();
+            segment.scanFrom(orderDate, id == null ? 0L : id, order -> {
+                if (orderDate == null || isAfter(order, orderDate, id)) {
+                    page.add(order);
+                }
+                return page.size() < limit;
+            });
+            matches.addAll(page);
+            matches.sort(BY_DATE_AND_ID);
+            if (matches.size() > limit) {
+                matches.subList(limit, matches.size()).clear();
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Up to {@code limit} of a user's orders before the (orderDate, id) cursor in descending order, or from the newest
+     * when {@code orderDate} is null. Each segment's user index leads straight to the user's records; segments are
+     * read newest first and the rest are skipped once the page is full.
+     */
+    public List<ArchivedOrder> findUserPageBefore(Long userId, LocalDateTime orderDate, Long id, int limit) {
+        long cursorSecond = orderDate == null ? Long.MAX_VALUE : orderDate.toEpochSecond(ZoneOffset.UTC);
+        Comparator<ArchivedOrder> newestFirst = BY_DATE_AND_ID.reversed();
+        List<ArchiveSegment> sorted = new ArrayList<>(segments);
+        sorted.sort(Comparator.comparingLong(ArchiveSegment::getMaxEpochSecond).reversed());
+        List<ArchivedOrder> matches = new ArrayList<>();
+        for (ArchiveSegment segment : sorted) {
+            if (segment.getMinEpochSecond() > cursorSecond) {
+                continue;
+            }
+            // Later segments cannot hold anything newer than what is already collected
+            if (matches.size() >= limit && segment.getMaxEpochSecond() < matches.get(limit - 1).orderDate().toEpochSecond(ZoneOffset.UTC)) {
+                break;
+            }
+            List<ArchivedOrder> page = new ArrayList<>();
+            segment.scanUserNewestFirst(userId, order -> {
+                if (orderDate == null || isBefore(order, orderDate, id)) {
+                    page.add(order);
+                }
+                return page.size() < limit;
+            });
+            matches.addAll(page);
+            matches.sort(newestFirst);
+            if (matches.size() > limit) {
+                matches.subList(limit, matches.size()).clear();
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Visits every archived order whose date falls in [from, to), segment by segment, entering each through its date index.
+     */
+    public void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<ArchivedOrder> consumer) {
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        for (ArchiveSegment segment : sortedByDate()) {
+            if (segment.getMaxEpochSecond() < fromSecond || segment.getMinEpochSecond() >= toSecond) {
+                continue;
+            }
+            segment.scanFrom(from, Long.MIN_VALUE, order -> {
+                if (!order.orderDate().isBefore(to)) {
+                    return false;
+                }
+                if (!order.orderDate().isBefore(from)) {
+                    consumer.accept(order);
+                }
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Visits every archived order, oldest first within each segment.
+     */
+    public void forEach(Consumer<ArchivedOrder> consumer) {
+        for (ArchiveSegment segment : sortedByDate()) {
+            segment.forEach(consumer);
+        }
+    }
+
+    /**
+     * Latest order date in the archive, or empty when nothing has been archived.
+     */
+    public Optional<LocalDateTime> latestOrderDate() {
+        return segments.stream()
+                .mapToLong(ArchiveSegment::getMaxEpochSecond)
+                .max()
+                .stream()
+                .mapToObj(second -> LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC))
+                .findFirst();
+    }
+
+    public int size() {
+        return segments.stream().mapToInt(ArchiveSegment::getCount).sum();
+    }
+
+    private static boolean isAfter(ArchivedOrder order, LocalDateTime orderDate, Long id) {
+        int byDate = order.orderDate().compareTo(orderDate);
+        return byDate > 0 || (byDate == 0 && order.id() > id);
+    }
+
+    private static boolean isBefore(ArchivedOrder order, LocalDateTime orderDate, Long id) {
+        int byDate = order.orderDate().compareTo(orderDate);
+        return byDate < 0 || (byDate == 0 && order.id() < id);
+    }
+
+    private List<ArchiveSegment> sortedByDate() {
+        List<ArchiveSegment> sorted = new ArrayList<>(segments);
+        sorted.sort(Comparator.comparingLong(ArchiveSegment::getMinEpochSecond));
+        return sorted;
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> entries = Files.list(directory)) {
+                for (Path file : entries.filter(Files::isRegularFile).sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        Files.delete(file);
+                    } else if (name.endsWith(SUFFIX)) {
+                        segments.add(ArchiveSegment.open(file));
+                        String number = name.substring(name.lastIndexOf('-') + 1, name.length() - SUFFIX.length());
+                        sequence.accumulateAndGet(Long.parseLong(number), Math::max);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order archive at " + directory, e);
+        }
+        if (!segments.isEmpty()) {
+            log.info("Opened {} archive segments holding {} orders from {}", segments.size(), size(), directory);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mylearning.orderservice.archive;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.repository.OrderRepository;
+import com.mylearning.orderservice.service.OrderWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves finished orders older than {@code order.archive.max-age-days} from the {@code orders} table into the
+ * {@link OrderArchive}, at most {@code order.archive.batch-size} per run. The segment is made durable before the
+ * rows are deleted. If the delete fails, the next run picks the same rows up first, skips the ones already in the
+ * archive and only deletes them; until then readers take those orders from the table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiver {
+
+    private static final Set<OrderStatus> FINAL_STATUSES = EnumSet.of(OrderStatus.PAID, OrderStatus.PAYMENT_FAILED, OrderStatus.REJECTED);
+
+    private final OrderRepository orderRepository;
+    private final OrderWriter orderWriter;
+    private final OrderArchive orderArchive;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.max-age-days:365}")
+    private int maxAgeDays;
+
+    @Value("${order.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${order.archive.interval-ms:3600000}", initialDelayString = "${order.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        List<Long> ids = orderRepository.findIdsToArchive(cutoff, FINAL_STATUSES, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> unarchived = ids.stream().filter(id -> orderArchive.find(id).isEmpty()).toList();
+        if (!unarchived.isEmpty()) {
+            List<Order> orders = orderRepository.findAllWithLinesByIdIn(unarchived);
+            orderArchive.append(orders.stream().map(ArchivedOrder::of).toList());
+        }
+        orderWriter.deleteArchived(ids);
+        log.info("Archived {} orders placed before {} ({} were already archived)", ids.size(), cutoff, ids.size() - unarchived.size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.commonconfig.retry.DownstreamRetry;
+import com.mylearning.orderservice.dto.InventoryDto;
+import com.mylearning.orderservice.util.Hedger;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Inventory-service calls made by Order-Service. Calls are retried within the inventory-service retry budget,
+ * each attempt running in the "inventory-service" bulkhead. The single-product stock check may also be hedged.
+ */
+@Component
+public class InventoryClient {
+
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+    private final DownstreamRetry retry;
+    private final Hedger hedger;
+
+    @Value("${inventory.service.url:http://inventory-service/api/inventory}")
+    private String inventoryServiceUrl;
+
+    public InventoryClient(@Qualifier("inventoryRestTemplate") RestTemplate restTemplate, BulkheadRegistry bulkheadRegistry,
+                           DownstreamRetry retry, @Qualifier("inventoryHedger") Hedger hedger) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkheadRegistry.bulkhead("inventory-service");
+        this.retry = retry;
+        this.hedger = hedger;
+    }
+
+    public Boolean isInStock(String productCode) {
+        return retry.execute("inventory-service", () -> hedger.execute(() -> bulkhead.executeSupplier(() ->
+                restTemplate.getForObject(inventoryServiceUrl + "/isInStock/" + productCode, Boolean.class))));
+    }
+
+    public List<InventoryDto> areInStock(List<String> productCodes) {
+        InventoryDto[] stock = call(() ->
+                restTemplate.postForObject(inventoryServiceUrl + "/areInStock", productCodes, InventoryDto[].class));
+        return stock == null ? List.of() : Arrays.asList(stock);
+    }
+
+    private <T> T call(Supplier<T> request) {
+        return retry.execute("inventory-service", () -> bulkhead.executeSupplier(request));
+    }
+}
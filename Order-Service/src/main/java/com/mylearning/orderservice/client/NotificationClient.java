@@ -0,0 +1,31 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.orderservice.dto.NotificationRequest;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Notification-service calls made by Order-Service, run in the "notification-service" bulkhead.
+ */
+@Component
+public class NotificationClient {
+
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+
+    @Value("${notification.service.url:http://notification-service/api/notifications}")
+    private String notificationServiceUrl;
+
+    public NotificationClient(@Qualifier("notificationRestTemplate") RestTemplate restTemplate, BulkheadRegistry bulkheadRegistry) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkheadRegistry.bulkhead("notification-service");
+    }
+
+    public void send(NotificationRequest notificationRequest) {
+        bulkhead.executeRunnable(() -> restTemplate.postForEntity(notificationServiceUrl + "/send", notificationRequest, Void.class));
+    }
+}
@@ -0,0 +1,32 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.orderservice.dto.PaymentRequest;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Payment-service calls made by Order-Service, run in the "payment-service" bulkhead. Payments are
+ * not retried here: the payment endpoint is not idempotent, so a retry after a lost response could charge twice.
+ */
+@Component
+public class PaymentClient {
+
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+
+    @Value("${payment.service.url:http://payment-service/api/payments}")
+    private String paymentServiceUrl;
+
+    public PaymentClient(@Qualifier("paymentRestTemplate") RestTemplate restTemplate, BulkheadRegistry bulkheadRegistry) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkheadRegistry.bulkhead("payment-service");
+    }
+
+    public void processPayment(PaymentRequest paymentRequest) {
+        bulkhead.executeRunnable(() -> restTemplate.postForEntity(paymentServiceUrl + "/process", paymentRequest, Void.class));
+    }
+}
@@ -0,0 +1,39 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.orderservice.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Invalidation hook for a single cached product: {@code DELETE /actuator/productcache/{productCode}}.
+ * The whole cache can be cleared through the standard {@code /actuator/caches/products} endpoint.
+ */
+@Component
+@Endpoint(id = "productcache")
+@RequiredArgsConstructor
+public class ProductCacheEndpoint {
+
+    private final ProductClient productClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Also tells local copies of the product (e.g. the order read model) to refresh.
+     */
+    @DeleteOperation
+    public void evict(@Selector String productCode) {
+        productClient.evict(productCode);
+        applicationEventPublisher.publishEvent(ProductChangedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .timestamp(LocalDateTime.now())
+                .eventType(ProductChangedEvent.TYPE)
+                .productCode(productCode)
+                .build());
+    }
+}
@@ -0,0 +1,70 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.commonconfig.retry.DownstreamRetry;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.util.SingleFlight;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Product-service calls made by Order-Service. Single-product lookups are served from the bounded,
+ * TTL-based "products" cache configured by {@code spring.cache.caffeine.spec}, and concurrent misses for
+ * the same code share one outbound request. Outbound calls are retried within the
+ * product-service retry budget, each attempt running in the "product-service" bulkhead.
+ */
+@Slf4j
+@Component
+public class ProductClient {
+
+    public static final String PRODUCTS_CACHE = "products";
+
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+    private final DownstreamRetry retry;
+    private final SingleFlight<String, ProductDto> productLookups;
+
+    @Value("${product.service.url:http://product-service/api/products}")
+    private String productServiceUrl;
+
+    public ProductClient(@Qualifier("productRestTemplate") RestTemplate restTemplate, BulkheadRegistry bulkheadRegistry,
+                         DownstreamRetry retry, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkheadRegistry.bulkhead("product-service");
+        this.retry = retry;
+        this.productLookups = new SingleFlight<>(meterRegistry.counter("order.client.coalesced", "downstream", "product-service"));
+    }
+
+    @Cacheable(cacheNames = PRODUCTS_CACHE, key = "#productCode", unless = "#result == null")
+    public ProductDto getByCode(String productCode) {
+        log.debug("Product cache miss for productCode={}", productCode);
+        return productLookups.execute(productCode, () -> call(() ->
+                restTemplate.getForObject(productServiceUrl + "/code/" + productCode, ProductDto.class)));
+    }
+
+    public List<ProductDto> getByCodes(List<String> productCodes) {
+        ProductDto[] products = call(() ->
+                restTemplate.postForObject(productServiceUrl + "/codes", productCodes, ProductDto[].class));
+        return products == null ? List.of() : Arrays.asList(products);
+    }
+
+    private <T> T call(Supplier<T> request) {
+        return retry.execute("product-service", () -> bulkhead.executeSupplier(request));
+    }
+
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#productCode")
+    public void evict(String productCode) {
+        log.info("Evicted productCode={} from product cache", productCode);
+    }
+}
@@ -0,0 +1,118 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.orderservice.config.DownstreamWebClientFactory;
+import com.mylearning.orderservice.dto.NotificationRequest;
+import com.mylearning.orderservice.dto.PaymentRequest;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.dto.UserDto;
+import com.mylearning.orderservice.util.ReactiveDownstreamRetry;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking downstream calls for the reactive order engine ({@code order.engine=reactive}). Every call runs in
+ * the same per-downstream bulkhead as the blocking clients, and lookups are retried within the same retry budgets.
+ * Product lookups share the "products" cache with {@link ProductClient}. As in {@link PaymentClient}, payments are
+ * never retried; nor are notifications.
+ */
+@Component
+@ConditionalOnProperty(name = "order.engine", havingValue = "reactive")
+public class ReactiveDownstreamClients {
+
+    private final WebClient productWebClient;
+    private final WebClient inventoryWebClient;
+    private final WebClient userWebClient;
+    private final WebClient paymentWebClient;
+    private final WebClient notificationWebClient;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ReactiveDownstreamRetry retry;
+    private final Cache productCache;
+
+    @Value("${product.service.url:http://product-service/api/products}")
+    private String productServiceUrl;
+
+    @Value("${inventory.service.url:http://inventory-service/api/inventory}")
+    private String inventoryServiceUrl;
+
+    @Value("${user.service.url:http://user-service/api/users}")
+    private String userServiceUrl;
+
+    @Value("${payment.service.url:http://payment-service/api/payments}")
+    private String paymentServiceUrl;
+
+    @Value("${notification.service.url:http://notification-service/api/notifications}")
+    private String notificationServiceUrl;
+
+    public ReactiveDownstreamClients(DownstreamWebClientFactory webClientFactory, BulkheadRegistry bulkheadRegistry,
+                                     ReactiveDownstreamRetry retry, CacheManager cacheManager) {
+        this.productWebClient = webClientFactory.create("product-service");
+        this.inventoryWebClient = webClientFactory.create("inventory-service");
+        this.userWebClient = webClientFactory.create("user-service");
+        this.paymentWebClient = webClientFactory.create("payment-service");
+        this.notificationWebClient = webClientFactory.create("notification-service");
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retry = retry;
+        this.productCache = cacheManager.getCache(ProductClient.PRODUCTS_CACHE);
+    }
+
+    public Mono<ProductDto> getProductByCode(String productCode) {
+        ProductDto cached = productCache == null ? null : productCache.get(productCode, ProductDto.class);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return lookup("product-service", productWebClient.get()
+                .uri(productServiceUrl + "/code/" + productCode)
+                .retrieve()
+                .bodyToMono(ProductDto.class))
+                .doOnNext(product -> {
+                    if (productCache != null) {
+                        productCache.put(productCode, product);
+                    }
+                });
+    }
+
+    public Mono<Boolean> isInStock(String productCode) {
+        return lookup("inventory-service", inventoryWebClient.get()
+                .uri(inventoryServiceUrl + "/isInStock/" + productCode)
+                .retrieve()
+                .bodyToMono(Boolean.class));
+    }
+
+    public Mono<UserDto> getUserById(Long userId) {
+        return lookup("user-service", userWebClient.get()
+                .uri(userServiceUrl + "/" + userId)
+                .retrieve()
+                .bodyToMono(UserDto.class));
+    }
+
+    public Mono<Void> processPayment(PaymentRequest paymentRequest) {
+        return paymentWebClient.post()
+                .uri(paymentServiceUrl + "/process")
+                .bodyValue(paymentRequest)
+                .retrieve()
+                .toBodilessEntity()
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead("payment-service")))
+                .then();
+    }
+
+    public Mono<Void> send(NotificationRequest notificationRequest) {
+        return notificationWebClient.post()
+                .uri(notificationServiceUrl + "/send")
+                .bodyValue(notificationRequest)
+                .retrieve()
+                .toBodilessEntity()
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead("notification-service")))
+                .then();
+    }
+
+    private <T> Mono<T> lookup(String downstream, Mono<T> request) {
+        return retry.execute(downstream, request.transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(downstream))));
+    }
+}
@@ -0,0 +1,41 @@
+package com.mylearning.orderservice.client;
+
+import com.mylearning.commonconfig.retry.DownstreamRetry;
+import com.mylearning.orderservice.dto.UserDto;
+import com.mylearning.orderservice.util.SingleFlight;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * User-service calls made by Order-Service. Concurrent lookups of the same user share one outbound request,
+ * which is retried within the user-service retry budget and runs in the "user-service" bulkhead.
+ */
+@Component
+public class UserClient {
+
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+    private final DownstreamRetry retry;
+    private final SingleFlight<Long, UserDto> userLookups;
+
+    @Value("${user.service.url:http://user-service/api/users}")
+    private String userServiceUrl;
+
+    public UserClient(@Qualifier("userRestTemplate") RestTemplate restTemplate, BulkheadRegistry bulkheadRegistry,
+                      DownstreamRetry retry, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkheadRegistry.bulkhead("user-service");
+        this.retry = retry;
+        this.userLookups = new SingleFlight<>(meterRegistry.counter("order.client.coalesced", "downstream", "user-service"));
+    }
+
+    public UserDto getById(Long userId) {
+        return userLookups.execute(userId, () -> retry.execute("user-service", () -> bulkhead.executeSupplier(() ->
+                restTemplate.getForObject(userServiceUrl + "/" + userId, UserDto.class))));
+    }
+}
@@ -0,0 +1,41 @@
+package com.mylearning.orderservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.util.AimdLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdmissionConfig {
+
+    @Bean
+    public AimdLimiter orderAdmissionLimiter(@Value("${order.admission.initial-limit:20}") int initialLimit,
+                                             @Value("${order.admission.min-limit:4}") int minLimit,
+                                             @Value("${order.admission.max-limit:200}") int maxLimit,
+                                             @Value("${order.admission.backoff-ratio:0.9}") double backoffRatio,
+                                             @Value("${order.admission.latency-target-ms:1000}") long latencyTargetMs,
+                                             MeterRegistry meterRegistry) {
+        AimdLimiter limiter = new AimdLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyTargetMs);
+        Gauge.builder("order.admission.limit", limiter, AimdLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("order.admission.inflight", limiter, AimdLimiter::getInFlight).register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * Applies the adaptive limit to order placement only; reads and batch submissions are not limited here.
+     */
+    @Bean
+    public FilterRegistrationBean<OrderAdmissionFilter> orderAdmissionFilter(AimdLimiter orderAdmissionLimiter,
+                                                                             ObjectMapper objectMapper,
+                                                                             MeterRegistry meterRegistry,
+                                                                             @Value("${order.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        FilterRegistrationBean<OrderAdmissionFilter> registration = new FilterRegistrationBean<>(new OrderAdmissionFilter(
+                orderAdmissionLimiter, meterRegistry.counter("order.admission.rejected"), objectMapper, retryAfterSeconds));
+        registration.addUrlPatterns("/api/orders");
+        return registration;
+    }
+}
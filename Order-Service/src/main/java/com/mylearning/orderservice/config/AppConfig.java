@@ -1,14 +1,161 @@
 package com.mylearning.orderservice.config;
 
+import com.mylearning.commonconfig.client.DownstreamRestTemplateFactory;
+import com.mylearning.orderservice.deadline.DeadlineTaskDecorator;
+import com.mylearning.orderservice.util.Hedger;
+import com.mylearning.orderservice.util.ReactiveDownstreamRetry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @LoadBalanced
+    public RestTemplate productRestTemplate(DownstreamRestTemplateFactory factory) {
+        return factory.create("product-service");
+    }
+
+    @Bean
+    @LoadBalanced
+    public RestTemplate inventoryRestTemplate(DownstreamRestTemplateFactory factory) {
+        return factory.create("inventory-service");
+    }
+
+    @Bean
+    @LoadBalanced
+    public RestTemplate userRestTemplate(DownstreamRestTemplateFactory factory) {
+        return factory.create("user-service");
+    }
+
+    @Bean
+    @LoadBalanced
+    public RestTemplate paymentRestTemplate(DownstreamRestTemplateFactory factory) {
+        return factory.create("payment-service");
+    }
+
+    @Bean
+    @LoadBalanced
+    public RestTemplate notificationRestTemplate(DownstreamRestTemplateFactory factory) {
+        return factory.create("notification-service");
+    }
+
+    /**
+     * Retry policy shared by the blocking and reactive downstream clients: jittered exponential backoff within a
+     * per-downstream retry budget.
+     */
+    @Bean
+    public ReactiveDownstreamRetry downstreamRetry(@Value("${order.retry.max-attempts:3}") int maxAttempts,
+                                                   @Value("${order.retry.base-delay-ms:100}") long baseDelayMs,
+                                                   @Value("${order.retry.max-delay-ms:1000}") long maxDelayMs,
+                                                   @Value("${order.retry.budget-ratio:0.1}") double budgetRatio,
+                                                   @Value("${order.retry.budget-max-tokens:10}") int budgetMaxTokens,
+                                                   MeterRegistry meterRegistry) {
+        return new ReactiveDownstreamRetry("order.client.retries", maxAttempts, baseDelayMs, maxDelayMs, budgetRatio,
+                budgetMaxTokens, meterRegistry);
+    }
+
+    /**
+     * Hedging for the inventory stock check (opt-in). A second request is sent once the first is slower than the
+     * configured latency percentile of recent calls.
+     */
+    @Bean
+    public Hedger inventoryHedger(@Value("${order.hedging.inventory.enabled:false}") boolean enabled,
+                                  @Value("${order.hedging.inventory.percentile:0.95}") double percentile,
+                                  @Value("${order.hedging.inventory.min-delay-ms:50}") long minDelayMs,
+                                  @Qualifier("hedgeExecutor") ThreadPoolTaskExecutor hedgeExecutor,
+                                  MeterRegistry meterRegistry) {
+        return new Hedger("inventory-service", enabled, percentile, minDelayMs, hedgeExecutor, meterRegistry);
+    }
+
+    /**
+     * Runs the attempts of hedged calls. It has no queue: when every thread is busy a call simply isn't hedged.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor hedgeExecutor(@Value("${order.hedging.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("order-hedge-");
+        executor.setTaskDecorator(new DeadlineTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * Bounded pool used to fan out the independent product, stock and user lookups of an order.
+     * When the queue is full the caller runs the lookup itself, which throttles intake instead of failing.
+     * With virtual threads each lookup gets its own virtual thread, and submitters wait once
+     * pool-size + queue-capacity lookups are running.
+     */
+    @Bean
+    public AsyncTaskExecutor orderLookupExecutor(@Value("${order.lookup.pool-size:32}") int poolSize,
+                                                 @Value("${order.lookup.queue-capacity:256}") int queueCapacity,
+                                                 Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-lookup-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize + queueCapacity);
+            executor.setTaskDecorator(new DeadlineTaskDecorator());
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-lookup-");
+        executor.setTaskDecorator(new DeadlineTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Runs accepted (202) orders in the background. A full queue rejects new orders rather than blocking the request thread.
+     * With virtual threads every accepted order runs at once, up to pool-size + queue-capacity, beyond which it is rejected.
+     */
+    @Bean
+    public AsyncTaskExecutor orderPipelineExecutor(@Value("${order.pipeline.pool-size:16}") int poolSize,
+                                                   @Value("${order.pipeline.queue-capacity:1000}") int queueCapacity,
+                                                   Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-pipeline-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize + queueCapacity);
+            executor.setRejectTasksWhenLimitReached(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-pipeline-");
+        return executor;
+    }
+
+    /**
+     * Fills product and customer details into order views off the outbox relay thread. A full queue drops the task;
+     * the details are filled in by the next event for that order.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor orderViewExecutor(@Value("${order.view.pool-size:4}") int poolSize,
+                                                    @Value("${order.view.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-view-");
+        return executor;
     }
 }
@@ -0,0 +1,48 @@
+package com.mylearning.orderservice.config;
+
+import com.mylearning.commonconfig.client.DownstreamClientProperties;
+import com.mylearning.commonconfig.client.DownstreamRestTemplateFactory;
+import com.mylearning.orderservice.deadline.DeadlineExchangeFilter;
+import io.netty.channel.ChannelOption;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Reactive counterpart of {@link DownstreamRestTemplateFactory}: one Reactor Netty connection pool per downstream
+ * service with the same {@link DownstreamClientProperties} limits. Requests waiting for a connection are bounded
+ * (twice the pool size) and time out after the pool-acquire timeout, so a slow service pushes back instead of
+ * queueing without limit. Pool usage is published as {@code reactor.netty.connection.provider.*} meters.
+ */
+public class DownstreamWebClientFactory {
+
+    private final DownstreamClientProperties properties;
+    private final WebClient.Builder webClientBuilder;
+
+    public DownstreamWebClientFactory(DownstreamClientProperties properties, WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    public WebClient create(String downstream) {
+        DownstreamClientProperties.Settings settings = properties.forClient(downstream);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(downstream)
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireMaxCount(settings.getMaxConnections() * 2)
+                .pendingAcquireTimeout(settings.getPoolAcquireTimeout())
+                .maxIdleTime(settings.getIdleTimeout())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis())
+                .responseTimeout(settings.getReadTimeout());
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new DeadlineExchangeFilter())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mylearning.orderservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.util.AimdLimiter;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Admits order placement requests through an {@link AimdLimiter}. Requests over the current limit get an
+ * immediate 503 with {@code Retry-After} rather than waiting in the Tomcat queue. The limit backs off only on
+ * signs of congestion: an admitted request that is slow, or that ends in a 503 (bulkhead full, pipeline busy)
+ * or 504 (downstream, deadline or transaction timeout). Other errors, such as a declined payment or a bug, say
+ * nothing about load and leave the limit alone.
+ */
+@Slf4j
+public class OrderAdmissionFilter extends OncePerRequestFilter {
+
+    private final AimdLimiter limiter;
+    private final Counter rejected;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    public OrderAdmissionFilter(AimdLimiter limiter, Counter rejected, ObjectMapper objectMapper, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.rejected = rejected;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Optional<AimdLimiter.Permit> permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            rejected.increment();
+            log.debug("Rejected order request over concurrency limit {}", limiter.getLimit());
+            reject(response);
+            return;
+        }
+        boolean overloaded = false;
+        try {
+            filterChain.doFilter(request, response);
+            overloaded = isOverload(response.getStatus());
+        } finally {
+            if (overloaded) {
+                permit.get().onFailure();
+            } else {
+                permit.get().onSuccess();
+            }
+        }
+    }
+
+    private static boolean isOverload(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> errorDetails = new LinkedHashMap<>();
+        errorDetails.put("timestamp", LocalDateTime.now().toString());
+        errorDetails.put("message", "Order service is at capacity, please retry later");
+        errorDetails.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+}
@@ -0,0 +1,29 @@
+package com.mylearning.orderservice.config;
+
+import com.mylearning.commonconfig.client.DownstreamClientProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Beans of the reactive order engine, created only with {@code order.engine=reactive}. The default
+ * ({@code order.engine=blocking}) places orders with the RestTemplate clients in {@link AppConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.engine", havingValue = "reactive")
+public class ReactiveEngineConfig {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+
+    @Bean
+    public DownstreamWebClientFactory downstreamWebClientFactory(DownstreamClientProperties properties,
+                                                                 WebClient.Builder loadBalancedWebClientBuilder) {
+        return new DownstreamWebClientFactory(properties, loadBalancedWebClientBuilder);
+    }
+}
@@ -1,14 +1,38 @@
 package com.mylearning.orderservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.dto.BatchOrderRequestDto;
+import com.mylearning.orderservice.dto.BatchOrderResponseDto;
+import com.mylearning.orderservice.dto.CartOrderRequestDto;
+import com.mylearning.orderservice.dto.CartOrderResponseDto;
+import com.mylearning.orderservice.dto.DailyRevenueDto;
+import com.mylearning.orderservice.dto.OrderPageDto;
 import com.mylearning.orderservice.dto.OrderRequestDto;
 import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.dto.OrderSummaryPageDto;
+import com.mylearning.orderservice.dto.OrderViewDto;
+import com.mylearning.orderservice.dto.OrderViewPageDto;
+import com.mylearning.orderservice.dto.ProductRevenueDto;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.service.IdempotencyStore;
+import com.mylearning.orderservice.service.OrderReportService;
 import com.mylearning.orderservice.service.OrderService;
+import com.mylearning.orderservice.service.OrderViewService;
+import com.mylearning.orderservice.service.ReactiveOrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -16,11 +40,81 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderViewService orderViewService;
+    private final OrderReportService orderReportService;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ReactiveOrderService> reactiveOrderService;
 
+    /**
+     * Places an order synchronously, or with {@code Prefer: respond-async} accepts it as PENDING and
+     * returns 202 with the order's location so the client can poll its status. While the order circuit breaker
+     * is open the order is queued for later placement and 202 is returned with status QUEUED.
+     * With an {@code Idempotency-Key} header, a repeated submission gets the original response back
+     * (marked {@code Idempotent-Replayed: true}) instead of placing a second order.
+     */
     @PostMapping
-    public ResponseEntity<OrderResponseDto> placeOrder(@Valid @RequestBody OrderRequestDto requestDto) {
-        return ResponseEntity.ok(orderService.placeOrder(requestDto));
+    public ResponseEntity<OrderResponseDto> placeOrder(@Valid @RequestBody OrderRequestDto requestDto,
+                                                       @RequestHeader(value = "Prefer", required = false) String prefer,
+                                                       @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return place(requestDto, prefer);
+        }
+        IdempotencyStore.Result<ResponseEntity<OrderResponseDto>> result =
+                idempotencyStore.execute(idempotencyKey, requestDto, () -> place(requestDto, prefer));
+        if (!result.replayed()) {
+            return result.response();
+        }
+        return ResponseEntity.status(result.response().getStatusCode())
+                .headers(result.response().getHeaders())
+                .header(IDEMPOTENT_REPLAYED, "true")
+                .body(result.response().getBody());
+    }
+
+    private ResponseEntity<OrderResponseDto> place(OrderRequestDto requestDto, String prefer) {
+        if (prefer != null && prefer.contains(RESPOND_ASYNC)) {
+            OrderResponseDto accepted = orderService.acceptOrder(requestDto);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                            .path("/{id}")
+                            .buildAndExpand(accepted.getId())
+                            .toUri())
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .body(accepted);
+        }
+        OrderResponseDto placed = placeOnEngine(requestDto);
+        if (placed.getStatus() == OrderStatus.QUEUED) {
+            return ResponseEntity.accepted().body(placed);
+        }
+        return ResponseEntity.ok(placed);
+    }
+
+    /**
+     * Places the order on the engine selected by {@code order.engine}. The reactive engine's result is awaited here,
+     * because admission, deadlines and idempotency around this endpoint are servlet-based.
+     */
+    private OrderResponseDto placeOnEngine(OrderRequestDto requestDto) {
+        ReactiveOrderService reactive = reactiveOrderService.getIfAvailable();
+        return reactive == null ? orderService.placeOrder(requestDto) : reactive.placeOrder(requestDto).block();
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponseDto> placeOrders(@Valid @RequestBody BatchOrderRequestDto requestDto) {
+        return ResponseEntity.ok(orderService.placeOrders(requestDto));
+    }
+
+    /**
+     * Places one order for several products, paid with a single payment for the cart total.
+     */
+    @PostMapping("/cart")
+    public ResponseEntity<CartOrderResponseDto> placeCartOrder(@Valid @RequestBody CartOrderRequestDto requestDto) {
+        return ResponseEntity.ok(orderService.placeCartOrder(requestDto));
     }
 
     @GetMapping
@@ -28,6 +122,67 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getAllOrders());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<OrderPageDto> getOrdersPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                      @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(orderService.getOrdersPage(cursor, size));
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<OrderSummaryPageDto> getOrdersByUser(@PathVariable("userId") Long userId,
+                                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                                               @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(orderService.getOrdersByUser(userId, cursor, size));
+    }
+
+    /**
+     * Streams all orders as newline-delimited JSON without materializing them in memory.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders() {
+        StreamingResponseBody body = outputStream -> orderService.streamAllOrders(order -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(order));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Revenue of paid orders per product for the days {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    @GetMapping("/reports/revenue-by-product")
+    public ResponseEntity<List<ProductRevenueDto>> getRevenueByProduct(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(orderReportService.getRevenueByProduct(from, to));
+    }
+
+    @GetMapping("/reports/revenue-by-day")
+    public ResponseEntity<List<DailyRevenueDto>> getRevenueByDay(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(orderReportService.getRevenueByDay(from, to));
+    }
+
+    /**
+     * Order detail with product, customer and payment outcome, served from the local read model.
+     */
+    @GetMapping("/{id}/details")
+    public ResponseEntity<OrderViewDto> getOrderDetails(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(orderViewService.getOrderView(id));
+    }
+
+    @GetMapping("/user/{userId}/details")
+    public ResponseEntity<OrderViewPageDto> getOrderDetailsByUser(@PathVariable("userId") Long userId,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                  @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(orderViewService.getOrderViewsByUser(userId, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public OrderResponseDto getOrderById(@PathVariable("id") Long id) {
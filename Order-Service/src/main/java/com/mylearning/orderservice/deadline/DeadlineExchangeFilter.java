@@ -0,0 +1,51 @@
+package com.mylearning.orderservice.deadline;
+
+import com.mylearning.commonconfig.deadline.DeadlineExceededException;
+import com.mylearning.commonconfig.deadline.RequestDeadline;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebClient counterpart of {@link DeadlinePropagationInterceptor}. Reactive calls don't run on the request thread,
+ * so the deadline travels in the Reactor context (see {@link #withDeadline}) instead of {@link RequestDeadline}.
+ * The time left is forwarded to the next hop, the exchange is cancelled once it runs out, and no call is made
+ * after it has passed.
+ */
+public class DeadlineExchangeFilter implements ExchangeFilterFunction {
+
+    private static final String DEADLINE_NANOS = DeadlineExchangeFilter.class.getName() + ".deadlineNanos";
+
+    /**
+     * Puts a deadline captured with {@link RequestDeadline#capture()} into the context, if there is one.
+     */
+    public static Context withDeadline(Context context, Long deadlineNanos) {
+        return deadlineNanos == null ? context : context.put(DEADLINE_NANOS, deadlineNanos);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            Long deadlineNanos = context.getOrDefault(DEADLINE_NANOS, null);
+            if (deadlineNanos == null) {
+                return next.exchange(request);
+            }
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMs <= 0) {
+                return Mono.error(new DeadlineExceededException("Request deadline exceeded before calling " + request.url().getHost()));
+            }
+            ClientRequest withHeader = ClientRequest.from(request)
+                    .header(RequestDeadline.HEADER, String.valueOf(remainingMs))
+                    .build();
+            return next.exchange(withHeader)
+                    .timeout(Duration.ofMillis(remainingMs), Mono.error(() ->
+                            new DeadlineExceededException("Request deadline exceeded waiting for " + request.url().getHost())));
+        });
+    }
+}
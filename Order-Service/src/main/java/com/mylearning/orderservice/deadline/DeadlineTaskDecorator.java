@@ -0,0 +1,24 @@
+package com.mylearning.orderservice.deadline;
+
+import com.mylearning.commonconfig.deadline.RequestDeadline;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's {@link RequestDeadline} over to tasks run on another executor thread.
+ */
+public class DeadlineTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Long deadline = RequestDeadline.capture();
+        return () -> {
+            Long previous = RequestDeadline.capture();
+            RequestDeadline.restore(deadline);
+            try {
+                runnable.run();
+            } finally {
+                RequestDeadline.restore(previous);
+            }
+        };
+    }
+}
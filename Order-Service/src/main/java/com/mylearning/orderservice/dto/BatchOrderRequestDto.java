@@ -0,0 +1,20 @@
+package com.mylearning.orderservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOrderRequestDto {
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 1000, message = "A batch may contain at most 1000 orders")
+    private List<@Valid OrderRequestDto> orders;
+}
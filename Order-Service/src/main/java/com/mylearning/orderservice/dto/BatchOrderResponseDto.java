@@ -0,0 +1,15 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOrderResponseDto {
+    private int accepted;
+    private int rejected;
+    private List<OrderLineResultDto> results;
+}
@@ -0,0 +1,20 @@
+package com.mylearning.orderservice.dto;
+
+import com.mylearning.orderservice.entity.OrderStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartOrderResponseDto {
+    private Long id;
+    private Long userId;
+    private LocalDateTime orderDate;
+    private OrderStatus status;
+    private double totalAmount;
+    private List<OrderLineDto> lines;
+}
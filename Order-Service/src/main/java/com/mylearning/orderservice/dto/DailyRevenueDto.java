@@ -0,0 +1,18 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Revenue of one calendar day; populated directly by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyRevenueDto {
+    private LocalDate day;
+    private Long orders;
+    private Double revenue;
+}
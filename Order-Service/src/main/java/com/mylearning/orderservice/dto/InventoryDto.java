@@ -0,0 +1,14 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class InventoryDto {
+    private String productCode;
+    private int quantity;
+    private boolean inStock;
+}
@@ -0,0 +1,13 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderLineDto {
+    private String productCode;
+    private int quantity;
+    private double unitPrice;
+}
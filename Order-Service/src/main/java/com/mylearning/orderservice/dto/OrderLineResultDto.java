@@ -0,0 +1,15 @@
+package com.mylearning.orderservice.dto;
+
+import com.mylearning.orderservice.entity.OrderStatus;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderLineResultDto {
+    private int index;
+    private OrderStatus status;
+    private OrderResponseDto order;
+    private String error;
+}
@@ -0,0 +1,14 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageDto {
+    private List<OrderResponseDto> items;
+    private String nextCursor;
+}
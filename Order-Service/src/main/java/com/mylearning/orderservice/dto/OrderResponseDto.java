@@ -1,5 +1,6 @@
 package com.mylearning.orderservice.dto;
 
+import com.mylearning.orderservice.entity.OrderStatus;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -14,4 +15,5 @@ public class OrderResponseDto {
     private String productCode;
     private int quantity;
     private LocalDateTime orderDate;
+    private OrderStatus status;
 }
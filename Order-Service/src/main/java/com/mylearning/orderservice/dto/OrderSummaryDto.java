@@ -0,0 +1,21 @@
+package com.mylearning.orderservice.dto;
+
+import com.mylearning.orderservice.entity.OrderStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an order for "my orders" listings; populated directly by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryDto {
+    private Long id;
+    private String productCode;
+    private int quantity;
+    private LocalDateTime orderDate;
+    private OrderStatus status;
+}
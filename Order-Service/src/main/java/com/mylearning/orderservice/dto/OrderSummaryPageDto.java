@@ -0,0 +1,14 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryPageDto {
+    private List<OrderSummaryDto> items;
+    private String nextCursor;
+}
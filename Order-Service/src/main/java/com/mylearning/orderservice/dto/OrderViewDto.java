@@ -0,0 +1,24 @@
+package com.mylearning.orderservice.dto;
+
+import com.mylearning.orderservice.entity.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderViewDto {
+    private Long orderId;
+    private Long userId;
+    private String userEmail;
+    private String productCode;
+    private String productName;
+    private BigDecimal unitPrice;
+    private int quantity;
+    private BigDecimal totalAmount;
+    private LocalDateTime orderDate;
+    private OrderStatus status;
+}
@@ -0,0 +1,17 @@
+package com.mylearning.orderservice.dto;
+
+import lombok.*;
+
+/**
+ * Revenue of one product over a reporting period; populated directly by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductRevenueDto {
+    private String productCode;
+    private Long orders;
+    private Long units;
+    private Double revenue;
+}
@@ -4,18 +4,29 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Order header. A single-product order carries its product and quantity directly; a cart order additionally has
+ * {@link OrderLine}s, with {@code productCode} holding the first line's product and {@code quantity} the total units.
+ */
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_order_date_id", columnList = "orderDate, id"),
+        @Index(name = "idx_orders_user_id_order_date", columnList = "userId, orderDate, id"),
+        @Index(name = "idx_orders_status_order_date", columnList = "status, orderDate")
+})
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -29,4 +40,23 @@ public class Order {
 
     @Column(nullable = false)
     private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    /**
+     * Catalogue price per unit when the order was placed. Null for cart orders, whose prices are on the lines,
+     * and for accepted orders that have not been confirmed yet.
+     */
+    private Double unitPrice;
+
+    /**
+     * Amount charged for the order, captured at placement so reports never have to re-price it.
+     */
+    private Double totalAmount;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+    @Builder.Default
+    private List<OrderLine> lines = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.mylearning.orderservice.entity;
+
+public enum OrderStatus {
+    PENDING,
+    CONFIRMED,
+    PAID,
+    PAYMENT_FAILED,
+    REJECTED,
+    /** Accepted while the order circuit breaker was open; held in the deferred order queue, not yet persisted. */
+    QUEUED
+}
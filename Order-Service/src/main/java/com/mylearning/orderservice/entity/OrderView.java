@@ -0,0 +1,55 @@
+package com.mylearning.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized, query-ready copy of an order joined with its product, customer and payment outcome. Prices are the
+ * ones recorded on the order. Maintained by {@code OrderViewProjector} from order and product events; never written
+ * by the order pipeline.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "order_view", indexes = {
+        @Index(name = "idx_order_view_user_id_order_date", columnList = "userId, orderDate, orderId"),
+        @Index(name = "idx_order_view_product_code", columnList = "productCode")
+})
+public class OrderView {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private String userEmail;
+
+    /**
+     * Null for cart orders, which span several products.
+     */
+    private String productCode;
+
+    private String productName;
+
+    private BigDecimal unitPrice;
+
+    private int quantity;
+
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.mylearning.orderservice.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "eventType", visible = true)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = OrderCreatedEvent.class, name = OrderCreatedEvent.TYPE),
+        @JsonSubTypes.Type(value = OrderStatusChangedEvent.class, name = OrderStatusChangedEvent.TYPE),
+        @JsonSubTypes.Type(value = ProductChangedEvent.class, name = ProductChangedEvent.TYPE)
+})
+public class BaseEvent {
+    private String eventId;
+    private LocalDateTime timestamp;
+    private String eventType;
+}
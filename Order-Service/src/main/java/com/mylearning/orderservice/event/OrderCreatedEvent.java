@@ -0,0 +1,30 @@
+package com.mylearning.orderservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+/**
+ * Mirrors {@code OrderCreatedEvent} in Payment-Service so the payload can be consumed there unchanged. Records that
+ * an order was written; it is not a request for payment, since Order-Service charges every order itself through
+ * payment-service's process endpoint.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class OrderCreatedEvent extends BaseEvent {
+    public static final String TYPE = "ORDER_CREATED";
+
+    private String orderId;
+    private String userId;
+    private BigDecimal amount;
+    private String productId;
+    private int quantity;
+    private String status;
+}
@@ -0,0 +1,19 @@
+package com.mylearning.orderservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class OrderStatusChangedEvent extends BaseEvent {
+    public static final String TYPE = "ORDER_STATUS_CHANGED";
+
+    private String orderId;
+    private String status;
+}
@@ -0,0 +1,21 @@
+package com.mylearning.orderservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Signals that a product's details changed in product-service and local copies of them are stale.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ProductChangedEvent extends BaseEvent {
+    public static final String TYPE = "PRODUCT_CHANGED";
+
+    private String productCode;
+}
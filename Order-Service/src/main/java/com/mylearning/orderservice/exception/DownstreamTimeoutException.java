@@ -0,0 +1,11 @@
+package com.mylearning.orderservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class DownstreamTimeoutException extends RuntimeException {
+    public DownstreamTimeoutException(String message) {
+        super(message);
+    }
+}
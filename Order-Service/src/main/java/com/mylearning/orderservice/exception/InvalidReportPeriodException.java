@@ -0,0 +1,11 @@
+package com.mylearning.orderservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidReportPeriodException extends RuntimeException {
+    public InvalidReportPeriodException(String message) {
+        super(message);
+    }
+}
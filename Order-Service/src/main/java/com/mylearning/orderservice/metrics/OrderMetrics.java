@@ -0,0 +1,98 @@
+package com.mylearning.orderservice.metrics;
+
+import com.mylearning.orderservice.util.RollingCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory rolling figures for placed orders: order rate, revenue and per-product order counts over the last
+ * window (one-second buckets). Recording is lock-free so it can sit on the order path; reading never touches
+ * the database. Figures are per instance and start from zero on restart.
+ */
+@Component
+public class OrderMetrics {
+
+    private static final long BUCKET_MILLIS = 1000;
+    private static final String OTHER_PRODUCTS = "other";
+
+    private final int windowSeconds;
+    private final int maxTrackedProducts;
+    private final RollingCounter orders;
+    private final RollingCounter revenueCents;
+    private final ConcurrentHashMap<String, RollingCounter> productOrders = new ConcurrentHashMap<>();
+
+    public OrderMetrics(@Value("${order.metrics.window-seconds:60}") int windowSeconds,
+                        @Value("${order.metrics.max-tracked-products:1000}") int maxTrackedProducts,
+                        MeterRegistry meterRegistry) {
+        this.windowSeconds = windowSeconds;
+        this.maxTrackedProducts = maxTrackedProducts;
+        this.orders = new RollingCounter(windowSeconds, BUCKET_MILLIS);
+        this.revenueCents = new RollingCounter(windowSeconds, BUCKET_MILLIS);
+        Gauge.builder("order.rolling.orders.per_second", this, OrderMetrics::ordersPerSecond).register(meterRegistry);
+        Gauge.builder("order.rolling.orders.window", this, metrics -> metrics.orders.sum()).register(meterRegistry);
+        Gauge.builder("order.rolling.revenue.window", this, OrderMetrics::revenue).register(meterRegistry);
+    }
+
+    /**
+     * Records one paid order covering the given products.
+     */
+    public void recordOrder(Collection<String> productCodes, double amount) {
+        orders.increment();
+        revenueCents.add(Math.round(amount * 100));
+        for (String productCode : productCodes) {
+            productCounter(productCode).increment();
+        }
+    }
+
+    /**
+     * Average order rate over the window, leaving out the second that is still being filled.
+     */
+    public double ordersPerSecond() {
+        return (orders.sum(windowSeconds) - orders.sum(1)) / (double) Math.max(1, windowSeconds - 1);
+    }
+
+    public double revenue() {
+        return revenueCents.sum() / 100.0;
+    }
+
+    /**
+     * Snapshot for the {@code ordermetrics} actuator endpoint, with the busiest products first.
+     */
+    public Map<String, Object> snapshot(int topProducts) {
+        Map<String, Long> products = new LinkedHashMap<>();
+        productOrders.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topProducts)
+                .forEach(entry -> products.put(entry.getKey(), entry.getValue()));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("windowSeconds", windowSeconds);
+        body.put("orders", orders.sum());
+        body.put("ordersPerSecond", ordersPerSecond());
+        body.put("revenue", revenue());
+        body.put("productOrders", products);
+        return body;
+    }
+
+    /**
+     * Per-product counters are capped so a stream of unknown codes cannot grow memory without bound.
+     */
+    private RollingCounter productCounter(String productCode) {
+        RollingCounter counter = productOrders.get(productCode);
+        if (counter != null) {
+            return counter;
+        }
+        String key = productOrders.size() < maxTrackedProducts ? productCode : OTHER_PRODUCTS;
+        return productOrders.computeIfAbsent(key, k -> new RollingCounter(windowSeconds, BUCKET_MILLIS));
+    }
+}
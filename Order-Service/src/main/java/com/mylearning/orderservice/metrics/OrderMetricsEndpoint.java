@@ -0,0 +1,27 @@
+package com.mylearning.orderservice.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rolling order figures for dashboards: {@code GET /actuator/ordermetrics?top=10}.
+ */
+@Component
+@Endpoint(id = "ordermetrics")
+@RequiredArgsConstructor
+public class OrderMetricsEndpoint {
+
+    private static final int DEFAULT_TOP_PRODUCTS = 10;
+
+    private final OrderMetrics orderMetrics;
+
+    @ReadOperation
+    public Map<String, Object> orderMetrics(@Nullable Integer top) {
+        return orderMetrics.snapshot(top == null ? DEFAULT_TOP_PRODUCTS : Math.max(0, top));
+    }
+}
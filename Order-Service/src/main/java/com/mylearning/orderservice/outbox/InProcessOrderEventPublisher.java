@@ -0,0 +1,33 @@
+package com.mylearning.orderservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.entity.OutboxEvent;
+import com.mylearning.orderservice.event.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers outbox events as Spring application events to listeners in this service.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InProcessOrderEventPublisher implements OrderEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(OutboxEvent event) {
+        try {
+            BaseEvent payload = objectMapper.readValue(event.getPayload(), BaseEvent.class);
+            applicationEventPublisher.publishEvent(payload);
+            log.debug("Published {} for aggregateId={}", event.getEventType(), event.getAggregateId());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize outbox event id=" + event.getId(), e);
+        }
+    }
+}
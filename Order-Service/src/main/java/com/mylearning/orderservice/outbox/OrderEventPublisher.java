@@ -0,0 +1,11 @@
+package com.mylearning.orderservice.outbox;
+
+import com.mylearning.orderservice.entity.OutboxEvent;
+
+/**
+ * Transport the outbox relay hands events to. Implementations must either deliver the event or throw,
+ * in which case the relay keeps it and retries on its next run.
+ */
+public interface OrderEventPublisher {
+    void publish(OutboxEvent event);
+}
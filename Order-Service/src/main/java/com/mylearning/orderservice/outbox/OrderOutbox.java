@@ -0,0 +1,39 @@
+package com.mylearning.orderservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.entity.OutboxEvent;
+import com.mylearning.orderservice.event.BaseEvent;
+import com.mylearning.orderservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appends events to the outbox table. Must run inside the transaction that writes the order row,
+ * so the event exists if and only if the order change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Long aggregateId, BaseEvent event) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateId(aggregateId)
+                    .eventType(event.getEventType())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getEventType() + " for aggregate " + aggregateId, e);
+        }
+    }
+}
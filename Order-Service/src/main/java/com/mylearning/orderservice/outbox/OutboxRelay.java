@@ -0,0 +1,56 @@
+package com.mylearning.orderservice.outbox;
+
+import com.mylearning.orderservice.entity.OutboxEvent;
+import com.mylearning.orderservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox in id order and in batches. Delivery stops at the first failure so events are never
+ * reordered; anything published but not yet deleted is sent again on the next run (at-least-once).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventPublisher orderEventPublisher;
+
+    @Value("${order.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:500}")
+    public void relay() {
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Long> published = new ArrayList<>(batch.size());
+            try {
+                for (OutboxEvent event : batch) {
+                    orderEventPublisher.publish(event);
+                    published.add(event.getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay stopped after {} of {} events: {}", published.size(), batch.size(), e.getMessage());
+            } finally {
+                if (!published.isEmpty()) {
+                    outboxEventRepository.deleteAllByIdInBatch(published);
+                }
+            }
+            if (published.size() < batch.size()) {
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+}
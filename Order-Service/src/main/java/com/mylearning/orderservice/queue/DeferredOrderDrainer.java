@@ -0,0 +1,95 @@
+package com.mylearning.orderservice.queue;
+
+import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.exception.ProductNotFoundException;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import com.mylearning.orderservice.service.OrderService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Replays deferred orders once the order circuit breaker has closed again, at most {@code order.queue.drain-batch-size}
+ * per interval so a recovering dependency is not hit with the whole backlog at once. Draining stops as soon as an
+ * order is deferred again or the service is busy; those orders stay queued for the next run. Only a definite
+ * rejection (unknown product, out of stock, a request a downstream refuses as invalid) moves an order to
+ * {@code failed/}; any other failure keeps it queued and pauses the replay, until the same order has failed
+ * {@code order.queue.max-attempts} times.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredOrderDrainer {
+
+    private final DeferredOrderQueue deferredOrderQueue;
+    private final OrderService orderService;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Value("${order.queue.drain-batch-size:10}")
+    private int batchSize;
+
+    @Value("${order.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${order.queue.drain-interval-ms:1000}")
+    public void drain() {
+        if (deferredOrderQueue.size() == 0
+                || circuitBreakerRegistry.circuitBreaker("orderService").getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        for (DeferredOrderQueue.DeferredOrder order : deferredOrderQueue.peek(batchSize)) {
+            OrderResponseDto placed;
+            try {
+                placed = orderService.placeOrder(order.request());
+            } catch (ServiceBusyException e) {
+                log.info("Deferred order replay paused: {}", e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                if (isRejection(e)) {
+                    log.error("Deferred order {} was rejected: {}", order.file().getFileName(), e.getMessage());
+                    deferredOrderQueue.fail(order);
+                    continue;
+                }
+                int attempts = deferredOrderQueue.recordFailedAttempt(order);
+                if (attempts >= maxAttempts) {
+                    log.error("Deferred order {} failed {} times, giving up: {}", order.file().getFileName(), attempts, e.getMessage());
+                    deferredOrderQueue.fail(order);
+                    continue;
+                }
+                log.warn("Deferred order {} failed (attempt {} of {}), replay paused: {}",
+                        order.file().getFileName(), attempts, maxAttempts, e.getMessage());
+                return;
+            }
+            // A QUEUED result means the breaker opened again and the fallback re-queued the request at the tail
+            deferredOrderQueue.remove(order);
+            if (placed.getStatus() == OrderStatus.QUEUED) {
+                return;
+            }
+            log.info("Deferred order placed with id={}", placed.getId());
+        }
+    }
+
+    /**
+     * True if the order itself was refused, so replaying it again cannot succeed; the order fallbacks may wrap the cause.
+     */
+    private boolean isRejection(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ProductNotFoundException || t instanceof OutOfStockException) {
+                return true;
+            }
+            if (t instanceof HttpClientErrorException e) {
+                int status = e.getStatusCode().value();
+                return status != HttpStatus.REQUEST_TIMEOUT.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,169 @@
+package com.mylearning.orderservice.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Bounded, file-backed FIFO of order requests that could not be placed while the order circuit breaker was open.
+ * Each request is one fsync'ed file named by a monotonically increasing sequence number, so the queue survives a
+ * restart and a half-written entry is never visible. Requests that can no longer be placed are moved to
+ * {@code failed/} for inspection.
+ */
+@Slf4j
+@Component
+public class DeferredOrderQueue {
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+    private final Path failedDirectory;
+    private final int capacity;
+    private final ObjectMapper objectMapper;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Path, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    public DeferredOrderQueue(@Value("${order.queue.directory:data/deferred-orders}") String directory,
+                              @Value("${order.queue.capacity:10000}") int capacity,
+                              ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.failedDirectory = this.directory.resolve("failed");
+        this.capacity = capacity;
+        this.objectMapper = objectMapper;
+        recover();
+        Gauge.builder("order.queue.size", size, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Durably appends the request, or throws {@link ServiceBusyException} if the queue is full.
+     */
+    public synchronized void enqueue(OrderRequestDto request) {
+        if (size.get() >= capacity) {
+            throw new ServiceBusyException("Order service is unavailable and the deferred order queue is full, please try later.");
+        }
+        String name = String.format("%019d", sequence.incrementAndGet());
+        Path tmp = directory.resolve(name + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(objectMapper.writeValueAsBytes(request)));
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write deferred order " + name, e);
+        }
+        try {
+            Files.move(tmp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit deferred order " + name, e);
+        }
+        size.incrementAndGet();
+    }
+
+    /**
+     * Returns up to {@code max} of the oldest queued requests without removing them.
+     */
+    public List<DeferredOrder> peek(int max) {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().limit(max).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list deferred orders", e);
+        }
+        List<DeferredOrder> orders = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try {
+                orders.add(new DeferredOrder(file, objectMapper.readValue(file.toFile(), OrderRequestDto.class)));
+            } catch (IOException e) {
+                log.error("Unreadable deferred order {}, moving it aside", file.getFileName(), e);
+                moveToFailed(file);
+            }
+        }
+        return orders;
+    }
+
+    public void remove(DeferredOrder order) {
+        failedAttempts.remove(order.file());
+        try {
+            if (Files.deleteIfExists(order.file())) {
+                size.decrementAndGet();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove deferred order " + order.file().getFileName(), e);
+        }
+    }
+
+    /**
+     * Takes a request that can no longer be placed (e.g. the product is gone) out of the queue, keeping it on disk.
+     */
+    public void fail(DeferredOrder order) {
+        moveToFailed(order.file());
+    }
+
+    /**
+     * Counts a replay of the request that failed for a reason that may pass, and returns the failures so far.
+     * Counts are kept in memory, so a restart gives every queued request a fresh set of attempts.
+     */
+    public int recordFailedAttempt(DeferredOrder order) {
+        return failedAttempts.merge(order.file(), 1, Integer::sum);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void moveToFailed(Path file) {
+        failedAttempts.remove(file);
+        try {
+            Files.move(file, failedDirectory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            size.decrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to move deferred order " + file.getFileName(), e);
+        }
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(failedDirectory);
+            try (Stream<Path> entries = Files.list(directory)) {
+                for (Path file : entries.filter(Files::isRegularFile).toList()) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        Files.delete(file);
+                    } else if (name.endsWith(SUFFIX)) {
+                        size.incrementAndGet();
+                        sequence.accumulateAndGet(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), Math::max);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open deferred order queue at " + directory, e);
+        }
+        if (size.get() > 0) {
+            log.info("Recovered {} deferred orders from {}", size.get(), directory);
+        }
+    }
+
+    public record DeferredOrder(Path file, OrderRequestDto request) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.mylearning.orderservice.readmodel;
+
+import com.mylearning.orderservice.client.ProductClient;
+import com.mylearning.orderservice.client.UserClient;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.dto.UserDto;
+import com.mylearning.orderservice.entity.OrderView;
+import com.mylearning.orderservice.repository.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copies product and customer names into {@link OrderView}s on the order view executor, so neither the outbox
+ * relay nor a database connection waits on product-service or user-service. The names are fetched first and
+ * written afterwards in one short update that only fills what the view is still missing. Prices are never taken
+ * from the catalogue; the view keeps the ones recorded on the order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewEnricher {
+
+    private final OrderViewRepository orderViewRepository;
+    private final ProductClient productClient;
+    private final UserClient userClient;
+    @Qualifier("orderViewExecutor")
+    private final ThreadPoolTaskExecutor orderViewExecutor;
+
+    /**
+     * Fills in the missing details of a saved view in the background.
+     */
+    public void enrichLater(OrderView view) {
+        Long orderId = view.getOrderId();
+        String productCode = view.getProductName() == null ? view.getProductCode() : null;
+        Long userId = view.getUserEmail() == null ? view.getUserId() : null;
+        submit(() -> enrich(orderId, productCode, userId), "order view " + orderId);
+    }
+
+    /**
+     * Refreshes the product name on every view of a product in the background.
+     */
+    public void refreshProductNameLater(String productCode) {
+        submit(() -> refreshProductName(productCode), "product " + productCode);
+    }
+
+    void enrich(Long orderId, String productCode, Long userId) {
+        String productName = null;
+        if (productCode != null) {
+            try {
+                ProductDto product = productClient.getByCode(productCode);
+                if (product != null) {
+                    productName = product.getName();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Order view {} left without product details: {}", orderId, e.getMessage());
+            }
+        }
+        String userEmail = null;
+        if (userId != null) {
+            try {
+                UserDto user = userClient.getById(userId);
+                if (user != null) {
+                    userEmail = user.getEmail();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Order view {} left without customer details: {}", orderId, e.getMessage());
+            }
+        }
+        if (productName != null || userEmail != null) {
+            orderViewRepository.fillDetails(orderId, productName, userEmail, LocalDateTime.now());
+        }
+    }
+
+    void refreshProductName(String productCode) {
+        ProductDto product = productClient.getByCode(productCode);
+        if (product == null) {
+            return;
+        }
+        int updated = orderViewRepository.updateProductName(product.getProductCode(), product.getName(), LocalDateTime.now());
+        log.info("Refreshed product name on {} order views for productCode={}", updated, product.getProductCode());
+    }
+
+    private void submit(Runnable task, String target) {
+        try {
+            orderViewExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("Order view executor is full, skipping details for {}", target);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.mylearning.orderservice.readmodel;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.entity.OrderView;
+import com.mylearning.orderservice.event.OrderCreatedEvent;
+import com.mylearning.orderservice.event.OrderStatusChangedEvent;
+import com.mylearning.orderservice.event.ProductChangedEvent;
+import com.mylearning.orderservice.repository.OrderRepository;
+import com.mylearning.orderservice.repository.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Keeps the {@link OrderView} read model up to date. Order events arrive through the outbox relay in commit order,
+ * so applying them one by one converges on the order table; handlers are idempotent because delivery is at-least-once.
+ * Handlers only touch the local database, each write in its own short transaction. Prices always come from the
+ * order row. Product and customer names are fetched afterwards by {@link OrderViewEnricher}; if either is unavailable
+ * the view keeps its other fields and the names are filled in by the next event for that order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewProjector {
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderRepository orderRepository;
+    private final OrderViewEnricher orderViewEnricher;
+
+    /**
+     * Also sent when an accepted order is confirmed, so prices are re-read from the order row: the price snapshot
+     * the customer is charged, never the current catalogue price.
+     */
+    @EventListener
+    public void on(OrderCreatedEvent event) {
+        Long orderId = Long.valueOf(event.getOrderId());
+        findOrder(orderId).ifPresent(order -> {
+            OrderView view = orderViewRepository.findById(orderId).orElseGet(() -> newView(order));
+            view.setUnitPrice(order.getUnitPrice() == null ? null : BigDecimal.valueOf(order.getUnitPrice()));
+            view.setTotalAmount(order.getTotalAmount() == null ? null : BigDecimal.valueOf(order.getTotalAmount()));
+            if (event.getStatus() != null) {
+                view.setStatus(OrderStatus.valueOf(event.getStatus()));
+            }
+            save(view);
+        });
+    }
+
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        load(Long.valueOf(event.getOrderId())).ifPresent(view -> {
+            view.setStatus(OrderStatus.valueOf(event.getStatus()));
+            save(view);
+        });
+    }
+
+    @EventListener
+    public void on(ProductChangedEvent event) {
+        orderViewEnricher.refreshProductNameLater(event.getProductCode());
+    }
+
+    private Optional<OrderView> load(Long orderId) {
+        Optional<OrderView> existing = orderViewRepository.findById(orderId);
+        if (existing.isPresent()) {
+            return existing;
+        }
+        return findOrder(orderId).map(this::newView);
+    }
+
+    private Optional<Order> findOrder(Long orderId) {
+        Optional<Order> order = orderRepository.findWithLinesById(orderId);
+        if (order.isEmpty()) {
+            log.warn("Skipping order view update for unknown orderId={}", orderId);
+        }
+        return order;
+    }
+
+    /**
+     * A cart order becomes one multi-product view: no product code, name or unit price, the quantity of all its lines
+     * and the order total.
+     */
+    private OrderView newView(Order order) {
+        boolean multiProduct = !order.getLines().isEmpty();
+        return OrderView.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .productCode(multiProduct ? null : order.getProductCode())
+                .quantity(order.getQuantity())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .unitPrice(order.getUnitPrice() == null ? null : BigDecimal.valueOf(order.getUnitPrice()))
+                .totalAmount(order.getTotalAmount() == null ? null : BigDecimal.valueOf(order.getTotalAmount()))
+                .build();
+    }
+
+    private void save(OrderView view) {
+        view.setUpdatedAt(LocalDateTime.now());
+        orderViewRepository.save(view);
+        if ((view.getProductCode() != null && view.getProductName() == null) || view.getUserEmail() == null) {
+            orderViewEnricher.enrichLater(view);
+        }
+    }
+}
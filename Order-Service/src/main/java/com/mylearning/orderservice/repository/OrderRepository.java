@@ -1,9 +1,108 @@
 package com.mylearning.orderservice.repository;
 
+import com.mylearning.orderservice.dto.DailyRevenueDto;
+import com.mylearning.orderservice.dto.OrderSummaryDto;
+import com.mylearning.orderservice.dto.ProductRevenueDto;
 import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Transactional(timeout = 5)
+    @Modifying
+    @Query("update Order o set o.status = :status where o.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") OrderStatus status);
+
+    @Modifying
+    @Query("update Order o set o.status = :status where o.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    @Transactional(timeout = 5)
+    @Modifying
+    @Query("update Order o set o.status = com.mylearning.orderservice.entity.OrderStatus.CONFIRMED, " +
+            "o.unitPrice = :unitPrice, o.totalAmount = :totalAmount where o.id = :id")
+    int confirm(@Param("id") Long id, @Param("unitPrice") Double unitPrice, @Param("totalAmount") Double totalAmount);
+
+    @Query("select o.id from Order o where o.orderDate < :cutoff and o.status in :statuses order by o.orderDate asc, o.id asc")
+    List<Long> findIdsToArchive(@Param("cutoff") LocalDateTime cutoff, @Param("statuses") Collection<OrderStatus> statuses,
+                                Pageable pageable);
+
+    @Query("select o.id from Order o where o.orderDate < :before")
+    List<Long> findIdsOrderedBefore(@Param("before") LocalDateTime before);
+
+    @Query("select o from Order o left join fetch o.lines where o.id = :id")
+    Optional<Order> findWithLinesById(@Param("id") Long id);
+
+    @Query("select distinct o from Order o left join fetch o.lines where o.id in :ids")
+    List<Order> findAllWithLinesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from OrderLine l where l.order.id in :ids")
+    int deleteLinesByOrderIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Order o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<Order> findAllByOrderByOrderDateAscIdAsc(Pageable pageable);
+
+    @Query("select o from Order o where o.orderDate > :orderDate or (o.orderDate = :orderDate and o.id > :id) " +
+            "order by o.orderDate asc, o.id asc")
+    List<Order> findPageAfter(@Param("orderDate") LocalDateTime orderDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.mylearning.orderservice.dto.OrderSummaryDto(o.id, o.productCode, o.quantity, o.orderDate, o.status) " +
+            "from Order o where o.userId = :userId order by o.orderDate desc, o.id desc")
+    List<OrderSummaryDto> findSummariesByUser(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.mylearning.orderservice.dto.OrderSummaryDto(o.id, o.productCode, o.quantity, o.orderDate, o.status) " +
+            "from Order o where o.userId = :userId " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderSummaryDto> findSummariesByUserBefore(@Param("userId") Long userId, @Param("orderDate") LocalDateTime orderDate,
+                                                    @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Revenue of single-product orders per product. Cart orders are excluded here and counted from their lines.
+     */
+    @Query("select new com.mylearning.orderservice.dto.ProductRevenueDto(o.productCode, count(o), sum(o.quantity), sum(o.totalAmount)) " +
+            "from Order o where o.status = :status and o.orderDate >= :from and o.orderDate < :to and o.lines is empty " +
+            "group by o.productCode")
+    List<ProductRevenueDto> revenueByProduct(@Param("status") OrderStatus status, @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    @Query("select new com.mylearning.orderservice.dto.ProductRevenueDto(l.productCode, count(l), sum(l.quantity), sum(l.unitPrice * l.quantity)) " +
+            "from OrderLine l join l.order o where o.status = :status and o.orderDate >= :from and o.orderDate < :to " +
+            "group by l.productCode")
+    List<ProductRevenueDto> revenueByProductFromLines(@Param("status") OrderStatus status, @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    @Query("select new com.mylearning.orderservice.dto.DailyRevenueDto(cast(o.orderDate as LocalDate), count(o), sum(o.totalAmount)) " +
+            "from Order o where o.status = :status and o.orderDate >= :from and o.orderDate < :to " +
+            "group by cast(o.orderDate as LocalDate) order by cast(o.orderDate as LocalDate)")
+    List<DailyRevenueDto> revenueByDay(@Param("status") OrderStatus status, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o order by o.orderDate asc, o.id asc")
+    Stream<Order> streamAllOrdered();
 }
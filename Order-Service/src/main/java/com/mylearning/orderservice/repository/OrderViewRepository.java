@@ -0,0 +1,41 @@
+package com.mylearning.orderservice.repository;
+
+import com.mylearning.orderservice.entity.OrderView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    List<OrderView> findAllByUserIdOrderByOrderDateDescOrderIdDesc(Long userId, Pageable pageable);
+
+    @Query("select v from OrderView v where v.userId = :userId " +
+            "and (v.orderDate < :orderDate or (v.orderDate = :orderDate and v.orderId < :orderId)) " +
+            "order by v.orderDate desc, v.orderId desc")
+    List<OrderView> findPageByUserBefore(@Param("userId") Long userId, @Param("orderDate") LocalDateTime orderDate,
+                                         @Param("orderId") Long orderId, Pageable pageable);
+
+    @Transactional(timeout = 10)
+    @Modifying
+    @Query("update OrderView v set v.productName = :productName, v.updatedAt = :updatedAt where v.productCode = :productCode")
+    int updateProductName(@Param("productCode") String productCode, @Param("productName") String productName,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Sets the product and customer names that the view is still missing; names already present are kept.
+     */
+    @Transactional(timeout = 5)
+    @Modifying
+    @Query("update OrderView v set v.productName = coalesce(v.productName, :productName), " +
+            "v.userEmail = coalesce(v.userEmail, :userEmail), v.updatedAt = :updatedAt where v.orderId = :orderId")
+    int fillDetails(@Param("orderId") Long orderId, @Param("productName") String productName,
+                    @Param("userEmail") String userEmail, @Param("updatedAt") LocalDateTime updatedAt);
+}
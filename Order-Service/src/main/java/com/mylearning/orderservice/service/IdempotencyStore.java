@@ -0,0 +1,86 @@
+package com.mylearning.orderservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mylearning.orderservice.exception.DownstreamTimeoutException;
+import com.mylearning.orderservice.exception.IdempotencyKeyReuseException;
+import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.exception.ProductNotFoundException;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded store of recent {@code Idempotency-Key}s and the responses they produced. A repeated key gets the
+ * stored response (or waits for the in-flight original) instead of running the order pipeline again.
+ * Only attempts that failed before any payment was taken (rejected, shed or timed out during the lookups) are
+ * forgotten so the client can retry them with the same key. Any other failure, such as a payment timeout, may
+ * come after the order was written; it stays bound to the key and is replayed, so a retry never charges twice.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(@Value("${order.idempotency.max-keys:10000}") long maxKeys,
+                            @Value("${order.idempotency.ttl-minutes:60}") long ttlMinutes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * Runs {@code call} once per key. {@code request} must match the request first seen with the key;
+     * reusing a key for a different request is rejected.
+     */
+    public <T> Result<T> execute(String key, Object request, Supplier<T> call) {
+        Entry created = new Entry(request, new CompletableFuture<>());
+        Entry entry = entries.asMap().putIfAbsent(key, created);
+        if (entry != null) {
+            if (!entry.request().equals(request)) {
+                throw new IdempotencyKeyReuseException("Idempotency-Key " + key + " was already used for a different request");
+            }
+            return new Result<>(this.<T>await(entry.response()), true);
+        }
+        try {
+            T response = call.get();
+            created.response().complete(response);
+            return new Result<>(response, false);
+        } catch (RuntimeException | Error e) {
+            if (isFailedBeforePayment(e)) {
+                entries.asMap().remove(key, created);
+            }
+            created.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static boolean isFailedBeforePayment(Throwable e) {
+        return e instanceof ProductNotFoundException || e instanceof OutOfStockException
+                || e instanceof ServiceBusyException || e instanceof DownstreamTimeoutException;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(CompletableFuture<Object> response) {
+        try {
+            return (T) response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public record Result<T>(T response, boolean replayed) {
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> response) {
+    }
+}
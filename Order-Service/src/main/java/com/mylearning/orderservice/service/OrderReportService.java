@@ -0,0 +1,14 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.dto.DailyRevenueDto;
+import com.mylearning.orderservice.dto.ProductRevenueDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OrderReportService {
+
+    public List<ProductRevenueDto> getRevenueByProduct(LocalDate from, LocalDate to);
+
+    public List<DailyRevenueDto> getRevenueByDay(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,122 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.archive.OrderArchive;
+import com.mylearning.orderservice.dto.DailyRevenueDto;
+import com.mylearning.orderservice.dto.ProductRevenueDto;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.InvalidReportPeriodException;
+import com.mylearning.orderservice.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Revenue reports over paid orders, aggregated in the database from the price captured at order time, plus any
+ * archived orders in the period that are no longer in the table. Periods are whole days, {@code from} inclusive and {@code to} exclusive.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderReportServiceImpl implements OrderReportService {
+
+    private static final long MAX_PERIOD_DAYS = 366;
+
+    private final OrderRepository orderRepository;
+    private final OrderArchive orderArchive;
+
+    @Override
+    public List<ProductRevenueDto> getRevenueByProduct(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        // Single-product orders and cart lines are aggregated separately and merged per product here
+        Map<String, ProductRevenueDto> byProduct = new LinkedHashMap<>();
+        Stream.concat(orderRepository.revenueByProduct(OrderStatus.PAID, start, end).stream(),
+                        orderRepository.revenueByProductFromLines(OrderStatus.PAID, start, end).stream())
+                .forEach(row -> byProduct.merge(row.getProductCode(), row, this::combine));
+        Set<Long> stillInTable = archivedStillInTable();
+        orderArchive.forEachBetween(start, end, order -> {
+            if (order.status() != OrderStatus.PAID || stillInTable.contains(order.id())) {
+                return;
+            }
+            if (order.lines().isEmpty()) {
+                byProduct.merge(order.productCode(), new ProductRevenueDto(order.productCode(), 1L, (long) order.quantity(),
+                        order.totalAmount()), this::combine);
+            }
+            order.lines().forEach(line -> byProduct.merge(line.productCode(), new ProductRevenueDto(line.productCode(), 1L,
+                    (long) line.quantity(), line.unitPrice() * line.quantity()), this::combine));
+        });
+        List<ProductRevenueDto> report = new ArrayList<>(byProduct.values());
+        report.sort(Comparator.comparing(ProductRevenueDto::getRevenue, Comparator.nullsLast(Comparator.reverseOrder())));
+        log.info("Revenue by product from {} to {}: {} products", from, to, report.size());
+        return report;
+    }
+
+    @Override
+    public List<DailyRevenueDto> getRevenueByDay(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        Map<LocalDate, DailyRevenueDto> byDay = new TreeMap<>();
+        Set<Long> stillInTable = archivedStillInTable();
+        orderArchive.forEachBetween(from.atStartOfDay(), to.atStartOfDay(), order -> {
+            if (order.status() == OrderStatus.PAID && !stillInTable.contains(order.id())) {
+                byDay.merge(order.orderDate().toLocalDate(), new DailyRevenueDto(order.orderDate().toLocalDate(), 1L,
+                        order.totalAmount()), this::combine);
+            }
+        });
+        orderRepository.revenueByDay(OrderStatus.PAID, from.atStartOfDay(), to.atStartOfDay())
+                .forEach(row -> byDay.merge(row.getDay(), row, this::combine));
+        List<DailyRevenueDto> report = new ArrayList<>(byDay.values());
+        log.info("Revenue by day from {} to {}: {} days", from, to, report.size());
+        return report;
+    }
+
+    /**
+     * Archived orders whose table rows have not been deleted yet; they are already counted by the table queries.
+     */
+    private Set<Long> archivedStillInTable() {
+        return orderArchive.latestOrderDate()
+                .map(latest -> orderArchive.findArchivedIds(orderRepository.findIdsOrderedBefore(latest.plusSeconds(1))))
+                .orElse(Set.of());
+    }
+
+    private ProductRevenueDto combine(ProductRevenueDto a, ProductRevenueDto b) {
+        return new ProductRevenueDto(a.getProductCode(),
+                a.getOrders() + b.getOrders(),
+                a.getUnits() + b.getUnits(),
+                sum(a.getRevenue(), b.getRevenue()));
+    }
+
+    private DailyRevenueDto combine(DailyRevenueDto a, DailyRevenueDto b) {
+        return new DailyRevenueDto(a.getDay(), a.getOrders() + b.getOrders(), sum(a.getRevenue(), b.getRevenue()));
+    }
+
+    private Double sum(Double a, Double b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a + b;
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidReportPeriodException("Report period must end after it starts");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_PERIOD_DAYS) {
+            throw new InvalidReportPeriodException("Report period may span at most " + MAX_PERIOD_DAYS + " days");
+        }
+    }
+}
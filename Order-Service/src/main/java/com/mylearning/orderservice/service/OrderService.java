@@ -1,12 +1,26 @@
 package com.mylearning.orderservice.service;
 
+import com.mylearning.orderservice.dto.BatchOrderRequestDto;
+import com.mylearning.orderservice.dto.BatchOrderResponseDto;
+import com.mylearning.orderservice.dto.CartOrderRequestDto;
+import com.mylearning.orderservice.dto.CartOrderResponseDto;
+import com.mylearning.orderservice.dto.OrderPageDto;
 import com.mylearning.orderservice.dto.OrderRequestDto;
 import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.dto.OrderSummaryPageDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
     public OrderResponseDto placeOrder(OrderRequestDto requestDto);
+    public OrderResponseDto acceptOrder(OrderRequestDto requestDto);
+    public BatchOrderResponseDto placeOrders(BatchOrderRequestDto requestDto);
+    public CartOrderResponseDto placeCartOrder(CartOrderRequestDto requestDto);
     public List<OrderResponseDto> getAllOrders();
+    public OrderPageDto getOrdersPage(String cursor, int size);
+
+    public OrderSummaryPageDto getOrdersByUser(Long userId, String cursor, int size);
+    public void streamAllOrders(Consumer<OrderResponseDto> consumer);
     public OrderResponseDto getOrderById(Long id);
 }
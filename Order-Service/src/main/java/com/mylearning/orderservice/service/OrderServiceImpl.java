@@ -1,147 +1,712 @@
 package com.mylearning.orderservice.service;
 
+import com.mylearning.commonconfig.deadline.DeadlineExceededException;
+import com.mylearning.commonconfig.deadline.RequestDeadline;
+import com.mylearning.orderservice.archive.ArchivedOrder;
+import com.mylearning.orderservice.archive.OrderArchive;
+import com.mylearning.orderservice.client.InventoryClient;
+import com.mylearning.orderservice.client.NotificationClient;
+import com.mylearning.orderservice.client.PaymentClient;
+import com.mylearning.orderservice.client.ProductClient;
+import com.mylearning.orderservice.client.UserClient;
 import com.mylearning.orderservice.dto.*;
 import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderLine;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.DownstreamTimeoutException;
 import com.mylearning.orderservice.exception.OrderNotFoundException;
 import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.exception.ProductNotFoundException;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import com.mylearning.orderservice.metrics.OrderMetrics;
+import com.mylearning.orderservice.queue.DeferredOrderQueue;
 import com.mylearning.orderservice.repository.OrderRepository;
+import com.mylearning.orderservice.util.OrderCursor;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final OrderRepository orderRepository;
-    private final RestTemplate restTemplate;
+    private final OrderWriter orderWriter;
+    private final EntityManager entityManager;
+    private final ProductClient productClient;
+    private final InventoryClient inventoryClient;
+    private final UserClient userClient;
+    private final PaymentClient paymentClient;
+    private final NotificationClient notificationClient;
+    private final DeferredOrderQueue deferredOrderQueue;
+    private final OrderMetrics orderMetrics;
+    private final OrderArchive orderArchive;
+    @Qualifier("orderLookupExecutor")
+    private final Executor orderLookupExecutor;
+    @Qualifier("orderPipelineExecutor")
+    private final Executor orderPipelineExecutor;
+
+    @Value("${order.lookup.timeout-ms:3000}")
+    private long lookupTimeoutMs;
+
+    @Override
+    @CircuitBreaker(name = "orderService", fallbackMethod = "placeOrderFallback")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderResponseDto placeOrder(OrderRequestDto requestDto) {
+
+        log.info("Start placing order for productCode={} by userId={}", requestDto.getProductCode(), requestDto.getUserId());
+
+        OrderLookups lookups = lookup(requestDto);
+        validate(requestDto, lookups);
 
-    @Value("${product.service.url:http://product-service/api/products}")
-    private String productServiceUrl;
+        // Save order and its OrderCreatedEvent in one short transaction; no connection is held across the remote calls
+        double amount = amount(requestDto, lookups.product());
+        Order saved = orderWriter.create(newOrder(requestDto, OrderStatus.CONFIRMED, lookups.product()), amount);
+        log.info("Order saved with id={}", saved.getId());
 
-    @Value("${inventory.service.url:http://inventory-service/api/inventory}")
-    private String inventoryServiceUrl;
+        OrderResponseDto responseDto = mapToDto(saved);
 
-    @Value("${payment.service.url:http://payment-service/api/payments}")
-    private String paymentServiceUrl;
+        pay(saved.getId(), requestDto.getUserId(), amount);
+        responseDto.setStatus(OrderStatus.PAID);
+        orderMetrics.recordOrder(List.of(requestDto.getProductCode()), amount);
 
-    @Value("${user.service.url:http://user-service/api/users}")
-    private String userServiceUrl;
+        notifyUser(saved.getId(), requestDto, lookups);
 
-    @Value("${notification.service.url:http://notification-service/api/notifications}")
-    private String notificationServiceUrl;
+        log.info("Order process completed for orderId={}", saved.getId());
+        return responseDto;
+    }
 
     @Override
-    @CircuitBreaker(name = "orderService", fallbackMethod = "placeOrderFallback")
-    @Retry(name = "orderService")
-    @Transactional(rollbackFor = Exception.class, timeout = 30, propagation = Propagation.REQUIRED)
-    public OrderResponseDto placeOrder(OrderRequestDto requestDto) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderResponseDto acceptOrder(OrderRequestDto requestDto) {
+        log.info("Accepting order for productCode={} by userId={}", requestDto.getProductCode(), requestDto.getUserId());
+        Order saved = orderWriter.accept(newOrder(requestDto, OrderStatus.PENDING, null));
+        try {
+            orderPipelineExecutor.execute(() -> processAcceptedOrder(saved.getId(), requestDto));
+        } catch (RejectedExecutionException e) {
+            log.warn("Order pipeline is saturated, rejecting orderId={}", saved.getId());
+            orderWriter.updateStatus(saved.getId(), OrderStatus.REJECTED);
+            throw new ServiceBusyException("Order pipeline is busy, please retry later");
+        }
+        log.info("Order accepted with id={}", saved.getId());
+        return mapToDto(saved);
+    }
 
-        log.info("Start placing order for productCode={} by userId={}", requestDto.getProductCode(), requestDto.getUserId());
+    /**
+     * Places many orders with one batched product lookup and one batched stock check for all distinct product codes.
+     * Accepted orders are inserted together, paid, and then moved to their outcome statuses in one transaction.
+     * Payments stay one call per order: payment-service only charges single orders, and each charge is its own
+     * payment record that can fail on its own, so a declined payment marks only that order
+     * {@link OrderStatus#PAYMENT_FAILED} and is reported on its line. Owners of paid orders are notified.
+     */
+    @Override
+    @CircuitBreaker(name = "orderService", fallbackMethod = "placeOrdersFallback")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchOrderResponseDto placeOrders(BatchOrderRequestDto batchRequest) {
+        List<OrderRequestDto> lines = batchRequest.getOrders();
+        List<String> productCodes = lines.stream().map(OrderRequestDto::getProductCode).distinct().toList();
+        log.info("Placing batch of {} orders across {} products", lines.size(), productCodes.size());
+
+        Future<List<ProductDto>> productLookup = submitLookup(() -> productClient.getByCodes(productCodes));
+        Future<List<InventoryDto>> stockLookup = submitLookup(() -> inventoryClient.areInStock(productCodes));
+
+        long deadline = lookupDeadline();
+        Map<String, ProductDto> products = new HashMap<>();
+        Map<String, Integer> remainingStock = new HashMap<>();
+        try {
+            await(productLookup, deadline, "product-service").forEach(product -> products.put(product.getProductCode(), product));
+            await(stockLookup, deadline, "inventory-service").forEach(item -> remainingStock.put(item.getProductCode(), item.getQuantity()));
+        } finally {
+            productLookup.cancel(true);
+            stockLookup.cancel(true);
+        }
+
+        OrderLineResultDto[] results = new OrderLineResultDto[lines.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        List<Double> amounts = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            OrderRequestDto line = lines.get(i);
+            ProductDto product = products.get(line.getProductCode());
+            if (product == null) {
+                results[i] = rejectedLine(i, "Product not found with code: " + line.getProductCode());
+                continue;
+            }
+            // Stock is reserved across the lines of the batch so two lines cannot both take the last units
+            int available = remainingStock.getOrDefault(line.getProductCode(), 0);
+            if (available < line.getQuantity()) {
+                results[i] = rejectedLine(i, "Product is out of stock");
+                continue;
+            }
+            remainingStock.put(line.getProductCode(), available - line.getQuantity());
+            acceptedIndexes.add(i);
+            orders.add(newOrder(line, OrderStatus.CONFIRMED, product));
+            amounts.add(amount(line, product));
+        }
+
+        List<Order> saved = orders.isEmpty() ? List.of() : orderWriter.createAll(orders, amounts);
+        Map<Long, OrderStatus> statuses = new LinkedHashMap<>();
+        List<Order> paidOrders = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            Order order = saved.get(i);
+            double amount = amounts.get(i);
+            String error = null;
+            try {
+                paymentClient.processPayment(new PaymentRequest(order.getId(), order.getUserId(), amount));
+                order.setStatus(OrderStatus.PAID);
+                orderMetrics.recordOrder(List.of(order.getProductCode()), amount);
+                paidOrders.add(order);
+            } catch (RuntimeException e) {
+                log.error("Payment failed for orderId={}, marking order {}", order.getId(), OrderStatus.PAYMENT_FAILED);
+                order.setStatus(OrderStatus.PAYMENT_FAILED);
+                error = "Payment failed: " + e.getMessage();
+            }
+            statuses.put(order.getId(), order.getStatus());
+            results[index] = OrderLineResultDto.builder()
+                    .index(index)
+                    .status(order.getStatus())
+                    .order(mapToDto(order))
+                    .error(error)
+                    .build();
+        }
+        if (!statuses.isEmpty()) {
+            orderWriter.updateStatuses(statuses);
+        }
+        int paid = paidOrders.size();
+        log.info("Batch placed: {} paid, {} rejected", paid, lines.size() - paid);
+
+        notifyOwners(paidOrders, products);
+
+        return BatchOrderResponseDto.builder()
+                .accepted(paid)
+                .rejected(lines.size() - paid)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Places a multi-line order: one batched product lookup, one batched stock check and one payment for the total,
+     * so the number of remote calls does not grow with the number of lines. Lines for the same product are merged.
+     */
+    @Override
+    @CircuitBreaker(name = "orderService", fallbackMethod = "placeCartOrderFallback")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CartOrderResponseDto placeCartOrder(CartOrderRequestDto requestDto) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        requestDto.getLines().forEach(line -> quantities.merge(line.getProductCode(), line.getQuantity(), Integer::sum));
+        List<String> productCodes = new ArrayList<>(quantities.keySet());
+        log.info("Placing cart order of {} products for userId={}", productCodes.size(), requestDto.getUserId());
+
+        Future<List<ProductDto>> productLookup = submitLookup(() -> productClient.getByCodes(productCodes));
+        Future<List<InventoryDto>> stockLookup = submitLookup(() -> inventoryClient.areInStock(productCodes));
+        Future<UserDto> userLookup = submitLookup(() -> userClient.getById(requestDto.getUserId()));
 
+        long deadline = lookupDeadline();
+        Map<String, ProductDto> products = new HashMap<>();
+        Map<String, Integer> stock = new HashMap<>();
+        UserDto user;
+        try {
+            await(productLookup, deadline, "product-service").forEach(product -> products.put(product.getProductCode(), product));
+            await(stockLookup, deadline, "inventory-service").forEach(item -> stock.put(item.getProductCode(), item.getQuantity()));
+            user = await(userLookup, deadline, "user-service");
+        } finally {
+            productLookup.cancel(true);
+            stockLookup.cancel(true);
+            userLookup.cancel(true);
+        }
+
+        Order order = newCartOrder(requestDto.getUserId(), quantities, products, stock);
+        double total = order.getLines().stream().mapToDouble(line -> line.getUnitPrice() * line.getQuantity()).sum();
+        order.setTotalAmount(total);
+
+        Order saved = orderWriter.create(order, total);
+        log.info("Cart order saved with id={} lines={} total={}", saved.getId(), saved.getLines().size(), total);
+
+        pay(saved.getId(), requestDto.getUserId(), total);
+        saved.setStatus(OrderStatus.PAID);
+        orderMetrics.recordOrder(productCodes, total);
+
+        if (user == null) {
+            log.warn("User not found with id={}, skipping notification", requestDto.getUserId());
+        } else {
+            sendNotification(new NotificationRequest(saved.getId(), requestDto.getUserId(), user.getEmail(),
+                    "Order placed for " + order.getQuantity() + " items"));
+        }
+        return mapToCartDto(saved, total);
+    }
+
+    /**
+     * Builds the order header and its lines, failing the whole cart if any product is unknown or short of stock.
+     */
+    private Order newCartOrder(Long userId, Map<String, Integer> quantities, Map<String, ProductDto> products, Map<String, Integer> stock) {
+        Order order = Order.builder()
+                .userId(userId)
+                .productCode(quantities.keySet().iterator().next())
+                .quantity(quantities.values().stream().mapToInt(Integer::intValue).sum())
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.CONFIRMED)
+                .build();
+        quantities.forEach((productCode, quantity) -> {
+            ProductDto product = products.get(productCode);
+            if (product == null) {
+                log.error("Product not found for productCode={}", productCode);
+                throw new ProductNotFoundException("Product not found with code: " + productCode);
+            }
+            if (stock.getOrDefault(productCode, 0) < quantity) {
+                log.warn("Product out of stock for productCode={}", productCode);
+                throw new OutOfStockException("Product is out of stock: " + productCode);
+            }
+            order.getLines().add(OrderLine.builder()
+                    .order(order)
+                    .productCode(productCode)
+                    .quantity(quantity)
+                    .unitPrice(product.getPrice())
+                    .build());
+        });
+        return order;
+    }
+
+    private OrderLineResultDto rejectedLine(int index, String error) {
+        return OrderLineResultDto.builder()
+                .index(index)
+                .status(OrderStatus.REJECTED)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Runs the remaining order steps in the background, advancing the persisted status as each one completes.
+     */
+    private void processAcceptedOrder(Long orderId, OrderRequestDto requestDto) {
+        OrderLookups lookups;
+        try {
+            lookups = lookup(requestDto);
+            validate(requestDto, lookups);
+        } catch (RuntimeException e) {
+            log.warn("Rejecting accepted orderId={}: {}", orderId, e.getMessage());
+            orderWriter.updateStatus(orderId, OrderStatus.REJECTED);
+            return;
+        }
+        double amount = amount(requestDto, lookups.product());
+        orderWriter.confirm(orderId, requestDto.getUserId(), requestDto.getProductCode(), requestDto.getQuantity(),
+                lookups.product().getPrice());
+
+        try {
+            pay(orderId, requestDto.getUserId(), amount);
+        } catch (RuntimeException e) {
+            // pay() has already marked the order PAYMENT_FAILED
+            return;
+        }
+        orderMetrics.recordOrder(List.of(requestDto.getProductCode()), amount);
+        notifyUser(orderId, requestDto, lookups);
+        log.info("Accepted order processing completed for orderId={}", orderId);
+    }
+
+    /**
+     * Product, stock and user lookups are independent, so they are issued together and joined on one shared deadline.
+     */
+    private OrderLookups lookup(OrderRequestDto requestDto) {
+        log.info("Looking up product, stock and user for productCode={} userId={}", requestDto.getProductCode(), requestDto.getUserId());
+        Future<ProductDto> productLookup = submitLookup(() -> productClient.getByCode(requestDto.getProductCode()));
+        Future<Boolean> stockLookup = submitLookup(() -> inventoryClient.isInStock(requestDto.getProductCode()));
+        Future<UserDto> userLookup = submitLookup(() -> userClient.getById(requestDto.getUserId()));
+
+        long deadline = lookupDeadline();
+        try {
+            return new OrderLookups(
+                    await(productLookup, deadline, "product-service"),
+                    await(stockLookup, deadline, "inventory-service"),
+                    await(userLookup, deadline, "user-service"));
+        } finally {
+            productLookup.cancel(true);
+            stockLookup.cancel(true);
+            userLookup.cancel(true);
+        }
+    }
+
+    private void validate(OrderRequestDto requestDto, OrderLookups lookups) {
         // Validate product
-        log.info("Validating product for productCode={}", requestDto.getProductCode());
-        ProductDto product = restTemplate.getForObject(productServiceUrl + "/code/" + requestDto.getProductCode(), ProductDto.class);
-        if (product == null) {
+        if (lookups.product() == null) {
             log.error("Product not found for productCode={}", requestDto.getProductCode());
-            throw new RuntimeException("Product not found with code: " + requestDto.getProductCode());
+            throw new ProductNotFoundException("Product not found with code: " + requestDto.getProductCode());
         }
-        log.info("Product found: {}", product.getName());
+        log.info("Product found: {}", lookups.product().getName());
 
         // Check inventory
-        log.info("Checking inventory stock for productCode={}", requestDto.getProductCode());
-        Boolean isInStock = restTemplate.getForObject(inventoryServiceUrl + "/isInStock/" + requestDto.getProductCode(), Boolean.class);
-        if (Boolean.FALSE.equals(isInStock)) {
+        if (Boolean.FALSE.equals(lookups.inStock())) {
             log.warn("Product out of stock for productCode={}", requestDto.getProductCode());
             throw new OutOfStockException("Product is out of stock");
         }
         log.info("Product is in stock");
+    }
 
-        // Save order
-        Order order = Order.builder()
-                .productCode(requestDto.getProductCode())
-                .quantity(requestDto.getQuantity())
-                .orderDate(LocalDateTime.now())
-                .build();
-        Order saved = orderRepository.save(order);
-        log.info("Order saved with id={}", saved.getId());
-
-        // Map response with userId included
-        OrderResponseDto responseDto = mapToDto(saved);
-        responseDto.setUserId(requestDto.getUserId());
-
-        // Process payment
-        log.info("Processing payment for orderId={} userId={}", saved.getId(), requestDto.getUserId());
-        PaymentRequest paymentRequest = new PaymentRequest(saved.getId(), requestDto.getUserId(), product.getPrice() * requestDto.getQuantity());
-        restTemplate.postForEntity(paymentServiceUrl + "/process", paymentRequest, Void.class);
-        log.info("Payment processed for orderId={}", saved.getId());
+    /**
+     * Processes payment for a saved order, compensating the order if it fails.
+     */
+    private void pay(Long orderId, Long userId, double amount) {
+        log.info("Processing payment for orderId={} userId={}", orderId, userId);
+        PaymentRequest paymentRequest = new PaymentRequest(orderId, userId, amount);
+        try {
+            paymentClient.processPayment(paymentRequest);
+        } catch (RuntimeException e) {
+            log.error("Payment failed for orderId={}, marking order {}", orderId, OrderStatus.PAYMENT_FAILED);
+            orderWriter.updateStatus(orderId, OrderStatus.PAYMENT_FAILED);
+            throw e;
+        }
+        orderWriter.updateStatus(orderId, OrderStatus.PAID);
+        log.info("Payment processed for orderId={}", orderId);
+    }
 
-        // Fetch user info for notification
-        log.info("Fetching user info for userId={}", requestDto.getUserId());
-        UserDto user = restTemplate.getForObject(userServiceUrl + "/" + requestDto.getUserId(), UserDto.class);
+    /**
+     * Notifies the user fetched during the lookup fan-out; a failed notification does not undo a paid order.
+     */
+    private void notifyUser(Long orderId, OrderRequestDto requestDto, OrderLookups lookups) {
+        UserDto user = lookups.user();
         if (user == null) {
             log.warn("User not found with id={}, skipping notification", requestDto.getUserId());
-        } else {
+            return;
+        }
+        NotificationRequest notificationRequest = new NotificationRequest(
+                orderId,
+                requestDto.getUserId(),
+                user.getEmail(),
+                "Order placed for product: " + lookups.product().getName()
+        );
+        sendNotification(notificationRequest);
+    }
 
-            NotificationRequest notificationRequest = new NotificationRequest(
-                    saved.getId(),
-                    requestDto.getUserId(),
-                    user.getEmail(),
-                    "Order placed for product: " + product.getName()
-            );
-            log.info("Sending notification to userEmail={}", user.getEmail());
-            restTemplate.postForEntity(notificationServiceUrl + "/send", notificationRequest, Void.class);
-            log.info("Notification sent for orderId={}", saved.getId());
+    /**
+     * Notifies the owners of a batch's paid orders, looking each user up once; a failed lookup skips only that
+     * user's notifications.
+     */
+    private void notifyOwners(List<Order> paidOrders, Map<String, ProductDto> products) {
+        Map<Long, Optional<UserDto>> users = new HashMap<>();
+        for (Order order : paidOrders) {
+            UserDto user = users.computeIfAbsent(order.getUserId(), this::findUser).orElse(null);
+            if (user == null) {
+                log.warn("User not found with id={}, skipping notification", order.getUserId());
+                continue;
+            }
+            sendNotification(new NotificationRequest(order.getId(), order.getUserId(), user.getEmail(),
+                    "Order placed for product: " + products.get(order.getProductCode()).getName()));
         }
+    }
 
-        log.info("Order process completed for orderId={}", saved.getId());
-        return responseDto;
+    private Optional<UserDto> findUser(Long userId) {
+        try {
+            return Optional.ofNullable(userClient.getById(userId));
+        } catch (RuntimeException e) {
+            log.warn("User lookup failed for userId={}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void sendNotification(NotificationRequest notificationRequest) {
+        log.info("Sending notification to userEmail={}", notificationRequest.getUserEmail());
+        try {
+            notificationClient.send(notificationRequest);
+            log.info("Notification sent for orderId={}", notificationRequest.getOrderId());
+        } catch (RuntimeException e) {
+            log.warn("Notification failed for orderId={}: {}", notificationRequest.getOrderId(), e.getMessage());
+        }
+    }
+
+    private double amount(OrderRequestDto requestDto, ProductDto product) {
+        return product.getPrice() * requestDto.getQuantity();
+    }
+
+    /**
+     * New order header; the price snapshot is taken from {@code product} when it is already known.
+     */
+    private Order newOrder(OrderRequestDto requestDto, OrderStatus status, ProductDto product) {
+        return Order.builder()
+                .userId(requestDto.getUserId())
+                .productCode(requestDto.getProductCode())
+                .quantity(requestDto.getQuantity())
+                .orderDate(LocalDateTime.now())
+                .status(status)
+                .unitPrice(product == null ? null : product.getPrice())
+                .totalAmount(product == null ? null : amount(requestDto, product))
+                .build();
     }
 
     @Override
     public List<OrderResponseDto> getAllOrders() {
         log.info("Fetching all orders");
-        return orderRepository.findAll()
+        List<OrderResponseDto> orders = new ArrayList<>();
+        Set<Long> stillInTable = archivedStillInTable();
+        orderArchive.forEach(archived -> {
+            if (!stillInTable.contains(archived.id())) {
+                orders.add(mapToDto(archived.toOrder()));
+            }
+        });
+        orderRepository.findAll()
                 .stream()
                 .map(order -> {
                     OrderResponseDto dto = mapToDto(order);
                     log.debug("Found order: {}", dto);
                     return dto;
                 })
-                .collect(Collectors.toList());
+                .forEach(orders::add);
+        return orders;
+    }
+
+    /**
+     * Keyset pagination on (orderDate, id): each page seeks past the previous cursor, so page cost does not grow with depth.
+     * The archive and the table each supply up to a page after the cursor and the two are merged, because orders left
+     * in the table (e.g. still PENDING) can be older than archived ones. An order found in both is taken from the table.
+     */
+    @Override
+    public OrderPageDto getOrdersPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize);
+        List<Order> table = after == null
+                ? orderRepository.findAllByOrderByOrderDateAscIdAsc(limit)
+                : orderRepository.findPageAfter(after.orderDate(), after.id(), limit);
+        List<Order> archived = orderArchive.findPageAfter(after == null ? null : after.orderDate(), after == null ? null : after.id(), pageSize)
+                .stream()
+                .map(ArchivedOrder::toOrder)
+                .toList();
+        List<Order> orders = mergePage(table, archived, Order::getId,
+                Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId), pageSize);
+        log.info("Fetched page of {} orders", orders.size());
+        String nextCursor = orders.size() == pageSize ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        return OrderPageDto.builder()
+                .items(orders.stream().map(this::mapToDto).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * A user's orders, newest first, read as projections through the (userId, orderDate, id) index and merged with
+     * the user's archived orders.
+     */
+    @Override
+    public OrderSummaryPageDto getOrdersByUser(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize);
+        OrderCursor before = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        List<OrderSummaryDto> table = before == null
+                ? orderRepository.findSummariesByUser(userId, limit)
+                : orderRepository.findSummariesByUserBefore(userId, before.orderDate(), before.id(), limit);
+        List<OrderSummaryDto> archived = orderArchive.findUserPageBefore(userId, before == null ? null : before.orderDate(),
+                        before == null ? null : before.id(), pageSize)
+                .stream()
+                .map(order -> new OrderSummaryDto(order.id(), order.productCode(), order.quantity(), order.orderDate(), order.status()))
+                .toList();
+        List<OrderSummaryDto> orders = mergePage(table, archived, OrderSummaryDto::getId,
+                Comparator.comparing(OrderSummaryDto::getOrderDate).thenComparing(OrderSummaryDto::getId).reversed(), pageSize);
+        log.info("Fetched page of {} orders for userId={}", orders.size(), userId);
+        String nextCursor = null;
+        if (orders.size() == pageSize) {
+            OrderSummaryDto last = orders.get(orders.size() - 1);
+            nextCursor = new OrderCursor(last.getOrderDate(), last.getId()).encode();
+        }
+        return OrderSummaryPageDto.builder()
+                .items(orders)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * First {@code limit} of the table and archive pages in page order; an order in both (archived but not yet
+     * deleted from the table) appears once, as its table row.
+     */
+    private static <T> List<T> mergePage(List<T> table, List<T> archived, Function<T, Long> id, Comparator<T> order, int limit) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        table.forEach(item -> byId.put(id.apply(item), item));
+        archived.forEach(item -> byId.putIfAbsent(id.apply(item), item));
+        return byId.values().stream().sorted(order).limit(limit).toList();
+    }
+
+    /**
+     * Archived orders whose table rows have not been deleted yet; readers that visit both stores take these from the table.
+     * Only table rows no newer than the latest archived order can be archived copies.
+     */
+    private Set<Long> archivedStillInTable() {
+        return orderArchive.latestOrderDate()
+                .map(latest -> orderArchive.findArchivedIds(orderRepository.findIdsOrderedBefore(latest.plusSeconds(1))))
+                .orElse(Set.of());
+    }
+
+    /**
+     * Streams every order through the consumer, detaching each entity once mapped so memory stays flat.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllOrders(Consumer<OrderResponseDto> consumer) {
+        log.info("Streaming all orders");
+        Set<Long> stillInTable = archivedStillInTable();
+        orderArchive.forEach(archived -> {
+            if (!stillInTable.contains(archived.id())) {
+                consumer.accept(mapToDto(archived.toOrder()));
+            }
+        });
+        try (Stream<Order> orders = orderRepository.streamAllOrdered()) {
+            orders.forEach(order -> {
+                consumer.accept(mapToDto(order));
+                entityManager.detach(order);
+            });
+        }
     }
 
     @Override
     public OrderResponseDto getOrderById(Long id) {
         log.info("Fetching order by id={}", id);
         Order order = orderRepository.findById(id)
+                .or(() -> orderArchive.find(id).map(ArchivedOrder::toOrder))
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + id));
         return mapToDto(order);
     }
 
+    /**
+     * Lookups get {@code order.lookup.timeout-ms}, or less if the request deadline is closer.
+     */
+    private long lookupDeadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, Math.min(lookupTimeoutMs, RequestDeadline.remainingMillis())));
+    }
+
+    /**
+     * Runs a lookup on the lookup executor as a {@link FutureTask}, so cancelling it interrupts the thread running it:
+     * a lookup that is waiting for a bulkhead slot, a coalesced call or a retry backoff stops as soon as its order
+     * has failed. A socket read already in progress ends at the downstream client's read timeout.
+     */
+    private <T> Future<T> submitLookup(Callable<T> lookup) {
+        FutureTask<T> task = new FutureTask<>(lookup);
+        orderLookupExecutor.execute(task);
+        return task;
+    }
+
+    /**
+     * Waits for a lookup until the shared deadline and surfaces its failure as the original exception.
+     */
+    private <T> T await(Future<T> lookup, long deadline, String downstream) {
+        try {
+            return lookup.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.error("Lookup to {} did not complete within the lookup deadline", downstream);
+            throw new DownstreamTimeoutException("Timed out waiting for " + downstream);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Lookup to " + downstream + " failed", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + downstream, e);
+        }
+    }
+
     private OrderResponseDto mapToDto(Order order) {
         return OrderResponseDto.builder()
                 .id(order.getId())
+                .userId(order.getUserId())
                 .productCode(order.getProductCode())
                 .quantity(order.getQuantity())
                 .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .build();
+    }
+
+    private CartOrderResponseDto mapToCartDto(Order order, double total) {
+        return CartOrderResponseDto.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .totalAmount(total)
+                .lines(order.getLines().stream()
+                        .map(line -> new OrderLineDto(line.getProductCode(), line.getQuantity(), line.getUnitPrice()))
+                        .collect(Collectors.toList()))
                 .build();
     }
 
+    private record OrderLookups(ProductDto product, Boolean inStock, UserDto user) {
+    }
+
     public OrderResponseDto placeOrderFallback(OrderRequestDto requestDto, Throwable t) {
         log.error("Fallback called for placeOrder due to: {}", t.toString());
-        // You can return a default response or throw a custom exception here
-        throw new RuntimeException("Order service is currently unavailable, please try later.");
+        if (t instanceof BulkheadFullException) {
+            throw new ServiceBusyException("Order service is at capacity, please try later.");
+        }
+        if (t instanceof CallNotPermittedException) {
+            // Breaker is open: keep the order and let DeferredOrderDrainer place it once dependencies recover
+            deferredOrderQueue.enqueue(requestDto);
+            return OrderResponseDto.builder()
+                    .userId(requestDto.getUserId())
+                    .productCode(requestDto.getProductCode())
+                    .quantity(requestDto.getQuantity())
+                    .status(OrderStatus.QUEUED)
+                    .build();
+        }
+        throw unavailable(t);
+    }
+
+    public BatchOrderResponseDto placeOrdersFallback(BatchOrderRequestDto batchRequest, Throwable t) {
+        log.error("Fallback called for placeOrders due to: {}", t.toString());
+        if (t instanceof BulkheadFullException) {
+            throw new ServiceBusyException("Order service is at capacity, please try later.");
+        }
+        throw unavailable(t);
+    }
+
+    public CartOrderResponseDto placeCartOrderFallback(CartOrderRequestDto requestDto, Throwable t) {
+        log.error("Fallback called for placeCartOrder due to: {}", t.toString());
+        if (t instanceof BulkheadFullException) {
+            throw new ServiceBusyException("Order service is at capacity, please try later.");
+        }
+        throw unavailable(t);
+    }
+
+    /**
+     * Timeouts and business rejections keep their own status; only unclassified failures become a generic error.
+     */
+    private RuntimeException unavailable(Throwable t) {
+        if (t instanceof DownstreamTimeoutException || t instanceof DeadlineExceededException
+                || t instanceof TransactionTimedOutException || t instanceof ProductNotFoundException
+                || t instanceof OutOfStockException || t instanceof ServiceBusyException) {
+            return (RuntimeException) t;
+        }
+        return new RuntimeException("Order service is currently unavailable, please try later.", t);
     }
 }
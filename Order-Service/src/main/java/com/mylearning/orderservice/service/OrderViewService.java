@@ -0,0 +1,11 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.dto.OrderViewDto;
+import com.mylearning.orderservice.dto.OrderViewPageDto;
+
+public interface OrderViewService {
+
+    public OrderViewDto getOrderView(Long orderId);
+
+    public OrderViewPageDto getOrderViewsByUser(Long userId, String cursor, int size);
+}
@@ -0,0 +1,77 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.dto.OrderViewDto;
+import com.mylearning.orderservice.dto.OrderViewPageDto;
+import com.mylearning.orderservice.entity.OrderView;
+import com.mylearning.orderservice.exception.OrderNotFoundException;
+import com.mylearning.orderservice.repository.OrderViewRepository;
+import com.mylearning.orderservice.util.OrderCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Serves order details from the local {@link OrderView} read model: one indexed read per request and no calls to
+ * other services. The view lags the write side by the outbox relay interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderViewServiceImpl implements OrderViewService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final OrderViewRepository orderViewRepository;
+
+    @Override
+    public OrderViewDto getOrderView(Long orderId) {
+        return orderViewRepository.findById(orderId)
+                .map(this::mapToDto)
+                .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + orderId));
+    }
+
+    @Override
+    public OrderViewPageDto getOrderViewsByUser(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize);
+        List<OrderView> views;
+        if (cursor == null || cursor.isBlank()) {
+            views = orderViewRepository.findAllByUserIdOrderByOrderDateDescOrderIdDesc(userId, limit);
+        } else {
+            OrderCursor before = OrderCursor.decode(cursor);
+            views = orderViewRepository.findPageByUserBefore(userId, before.orderDate(), before.id(), limit);
+        }
+        log.info("Fetched {} order views for userId={}", views.size(), userId);
+        String nextCursor = null;
+        if (views.size() == pageSize) {
+            OrderView last = views.get(views.size() - 1);
+            nextCursor = new OrderCursor(last.getOrderDate(), last.getOrderId()).encode();
+        }
+        return OrderViewPageDto.builder()
+                .items(views.stream().map(this::mapToDto).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private OrderViewDto mapToDto(OrderView view) {
+        return OrderViewDto.builder()
+                .orderId(view.getOrderId())
+                .userId(view.getUserId())
+                .userEmail(view.getUserEmail())
+                .productCode(view.getProductCode())
+                .productName(view.getProductName())
+                .unitPrice(view.getUnitPrice())
+                .quantity(view.getQuantity())
+                .totalAmount(view.getTotalAmount())
+                .orderDate(view.getOrderDate())
+                .status(view.getStatus())
+                .build();
+    }
+}
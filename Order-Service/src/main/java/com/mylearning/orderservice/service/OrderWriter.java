@@ -0,0 +1,122 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.event.OrderCreatedEvent;
+import com.mylearning.orderservice.event.OrderStatusChangedEvent;
+import com.mylearning.orderservice.outbox.OrderOutbox;
+import com.mylearning.orderservice.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Short local transactions that change an order and record the matching outbox event atomically.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderWriter {
+
+    private final OrderRepository orderRepository;
+    private final OrderOutbox orderOutbox;
+
+    @Transactional(rollbackFor = Exception.class, timeout = 5)
+    public Order create(Order order, double amount) {
+        Order saved = orderRepository.save(order);
+        orderOutbox.append(saved.getId(), orderCreated(saved.getId(), saved.getUserId(), saved.getProductCode(), saved.getQuantity(), amount));
+        return saved;
+    }
+
+    /**
+     * Inserts an accepted order, still {@link OrderStatus#PENDING} and unpriced, and records its status for the read model.
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 5)
+    public Order accept(Order order) {
+        Order saved = orderRepository.save(order);
+        orderOutbox.append(saved.getId(), statusChanged(saved.getId(), saved.getStatus()));
+        return saved;
+    }
+
+    /**
+     * Inserts a batch of orders and their events in one transaction; Hibernate groups the inserts into JDBC batches.
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public List<Order> createAll(List<Order> orders, List<Double> amounts) {
+        List<Order> saved = orderRepository.saveAll(orders);
+        for (int i = 0; i < saved.size(); i++) {
+            Order order = saved.get(i);
+            orderOutbox.append(order.getId(), orderCreated(order.getId(), order.getUserId(), order.getProductCode(), order.getQuantity(), amounts.get(i)));
+        }
+        return saved;
+    }
+
+    /**
+     * Confirms an accepted order, recording the price it was confirmed at.
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 5)
+    public void confirm(Long orderId, Long userId, String productCode, int quantity, double unitPrice) {
+        double amount = unitPrice * quantity;
+        orderRepository.confirm(orderId, unitPrice, amount);
+        orderOutbox.append(orderId, orderCreated(orderId, userId, productCode, quantity, amount));
+    }
+
+    /**
+     * Moves an order to a new status and records the change for the read model.
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 5)
+    public void updateStatus(Long orderId, OrderStatus status) {
+        orderRepository.updateStatus(orderId, status);
+        orderOutbox.append(orderId, statusChanged(orderId, status));
+    }
+
+    /**
+     * Moves a batch of orders to their new statuses in one transaction, with one update per distinct status.
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public void updateStatuses(Map<Long, OrderStatus> statuses) {
+        statuses.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((status, orderIds) -> orderRepository.updateStatusByIdIn(orderIds, status));
+        statuses.forEach((orderId, status) -> orderOutbox.append(orderId, statusChanged(orderId, status)));
+    }
+
+    /**
+     * Removes orders that have been copied to the archive, cart lines first.
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public void deleteArchived(List<Long> orderIds) {
+        orderRepository.deleteLinesByOrderIdIn(orderIds);
+        orderRepository.deleteAllByIdIn(orderIds);
+    }
+
+    private OrderStatusChangedEvent statusChanged(Long orderId, OrderStatus status) {
+        return OrderStatusChangedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .timestamp(LocalDateTime.now())
+                .eventType(OrderStatusChangedEvent.TYPE)
+                .orderId(String.valueOf(orderId))
+                .status(status.name())
+                .build();
+    }
+
+    private OrderCreatedEvent orderCreated(Long orderId, Long userId, String productCode, int quantity, double amount) {
+        return OrderCreatedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .timestamp(LocalDateTime.now())
+                .eventType(OrderCreatedEvent.TYPE)
+                .orderId(String.valueOf(orderId))
+                .userId(String.valueOf(userId))
+                .amount(BigDecimal.valueOf(amount))
+                .productId(productCode)
+                .quantity(quantity)
+                .status(OrderStatus.CONFIRMED.name())
+                .build();
+    }
+}
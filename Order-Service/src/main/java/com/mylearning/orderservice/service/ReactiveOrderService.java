@@ -0,0 +1,9 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.dto.OrderResponseDto;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveOrderService {
+    public Mono<OrderResponseDto> placeOrder(OrderRequestDto requestDto);
+}
@@ -0,0 +1,241 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.commonconfig.deadline.RequestDeadline;
+import com.mylearning.orderservice.client.ReactiveDownstreamClients;
+import com.mylearning.orderservice.deadline.DeadlineExchangeFilter;
+import com.mylearning.orderservice.dto.NotificationRequest;
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.dto.PaymentRequest;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.dto.UserDto;
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.DownstreamTimeoutException;
+import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.exception.ProductNotFoundException;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import com.mylearning.orderservice.metrics.OrderMetrics;
+import com.mylearning.orderservice.queue.DeferredOrderQueue;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive order engine ({@code order.engine=reactive}). Places an order with the same steps and outcomes as
+ * {@link OrderServiceImpl#placeOrder}, but no thread waits on a remote call: the product, stock and user lookups
+ * are issued together and all cancelled on the first failure or once the lookup deadline passes. Only the JPA
+ * writes run on the bounded elastic scheduler. Concurrency is bounded by the downstream bulkheads and connection
+ * pools, which reject excess calls rather than queue them. The "orderService" circuit breaker and the deferred
+ * order queue are shared with the blocking engine.
+ */
+@Service
+@ConditionalOnProperty(name = "order.engine", havingValue = "reactive")
+@Slf4j
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private final ReactiveDownstreamClients clients;
+    private final OrderWriter orderWriter;
+    private final DeferredOrderQueue deferredOrderQueue;
+    private final OrderMetrics orderMetrics;
+    private final CircuitBreaker circuitBreaker;
+
+    @Value("${order.lookup.timeout-ms:3000}")
+    private long lookupTimeoutMs;
+
+    public ReactiveOrderServiceImpl(ReactiveDownstreamClients clients, OrderWriter orderWriter, DeferredOrderQueue deferredOrderQueue,
+                                    OrderMetrics orderMetrics, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.clients = clients;
+        this.orderWriter = orderWriter;
+        this.deferredOrderQueue = deferredOrderQueue;
+        this.orderMetrics = orderMetrics;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("orderService");
+    }
+
+    @Override
+    public Mono<OrderResponseDto> placeOrder(OrderRequestDto requestDto) {
+        Long deadlineNanos = RequestDeadline.capture();
+        return Mono.defer(() -> place(requestDto, deadlineNanos))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorResume(CallNotPermittedException.class, e -> queue(requestDto))
+                .onErrorMap(BulkheadFullException.class, e -> new ServiceBusyException("Order service is at capacity, please try later."))
+                .contextWrite(context -> DeadlineExchangeFilter.withDeadline(context, deadlineNanos));
+    }
+
+    private Mono<OrderResponseDto> place(OrderRequestDto requestDto, Long deadlineNanos) {
+        log.info("Start placing order for productCode={} by userId={}", requestDto.getProductCode(), requestDto.getUserId());
+        return lookup(requestDto, deadlineNanos).flatMap(lookups -> {
+            validate(requestDto, lookups);
+            double amount = lookups.product().getPrice() * requestDto.getQuantity();
+            return onJpaThread(deadlineNanos, () -> orderWriter.create(newOrder(requestDto, lookups.product(), amount), amount))
+                    .flatMap(saved -> {
+                        log.info("Order saved with id={}", saved.getId());
+                        return pay(saved.getId(), requestDto.getUserId(), amount, deadlineNanos)
+                                .then(Mono.fromRunnable(() -> orderMetrics.recordOrder(List.of(requestDto.getProductCode()), amount)))
+                                .then(Mono.defer(() -> notifyUser(saved.getId(), requestDto, lookups)))
+                                .then(Mono.fromCallable(() -> {
+                                    log.info("Order process completed for orderId={}", saved.getId());
+                                    return mapToDto(saved, OrderStatus.PAID);
+                                }));
+                    });
+        });
+    }
+
+    /**
+     * Product, stock and user lookups run concurrently; the first to fail, or the lookup deadline, cancels the others.
+     */
+    private Mono<OrderLookups> lookup(OrderRequestDto requestDto, Long deadlineNanos) {
+        return Mono.defer(() -> Mono.zip(
+                        optional(clients.getProductByCode(requestDto.getProductCode())),
+                        optional(clients.isInStock(requestDto.getProductCode())),
+                        optional(clients.getUserById(requestDto.getUserId())))
+                .timeout(lookupTimeout(deadlineNanos), Mono.error(() -> {
+                    log.error("Lookups for productCode={} did not complete within the lookup deadline", requestDto.getProductCode());
+                    return new DownstreamTimeoutException("Timed out waiting for product, stock and user lookups");
+                }))
+                .map(results -> new OrderLookups(results.getT1().orElse(null), results.getT2().orElse(null), results.getT3().orElse(null))));
+    }
+
+    /**
+     * An empty response must not complete the zip early, so each lookup result is wrapped.
+     */
+    private <T> Mono<Optional<T>> optional(Mono<T> lookup) {
+        return lookup.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+
+    /**
+     * Lookups get {@code order.lookup.timeout-ms}, or less if the request deadline is closer.
+     */
+    private Duration lookupTimeout(Long deadlineNanos) {
+        long remainingMs = deadlineNanos == null ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        return Duration.ofMillis(Math.max(0L, Math.min(lookupTimeoutMs, remainingMs)));
+    }
+
+    private void validate(OrderRequestDto requestDto, OrderLookups lookups) {
+        if (lookups.product() == null) {
+            log.error("Product not found for productCode={}", requestDto.getProductCode());
+            throw new ProductNotFoundException("Product not found with code: " + requestDto.getProductCode());
+        }
+        if (Boolean.FALSE.equals(lookups.inStock())) {
+            log.warn("Product out of stock for productCode={}", requestDto.getProductCode());
+            throw new OutOfStockException("Product is out of stock");
+        }
+    }
+
+    /**
+     * Processes payment for a saved order, compensating the order if it fails.
+     */
+    private Mono<Void> pay(Long orderId, Long userId, double amount, Long deadlineNanos) {
+        log.info("Processing payment for orderId={} userId={}", orderId, userId);
+        return clients.processPayment(new PaymentRequest(orderId, userId, amount))
+                .onErrorResume(e -> {
+                    log.error("Payment failed for orderId={}, marking order {}", orderId, OrderStatus.PAYMENT_FAILED);
+                    return updateStatus(orderId, OrderStatus.PAYMENT_FAILED, deadlineNanos).then(Mono.<Void>error(e));
+                })
+                .then(updateStatus(orderId, OrderStatus.PAID, deadlineNanos))
+                .doOnSuccess(ignored -> log.info("Payment processed for orderId={}", orderId));
+    }
+
+    /**
+     * Notifies the user fetched during the lookups; a failed notification does not undo a paid order.
+     */
+    private Mono<Void> notifyUser(Long orderId, OrderRequestDto requestDto, OrderLookups lookups) {
+        UserDto user = lookups.user();
+        if (user == null) {
+            log.warn("User not found with id={}, skipping notification", requestDto.getUserId());
+            return Mono.empty();
+        }
+        NotificationRequest notificationRequest = new NotificationRequest(
+                orderId,
+                requestDto.getUserId(),
+                user.getEmail(),
+                "Order placed for product: " + lookups.product().getName()
+        );
+        return clients.send(notificationRequest)
+                .doOnSuccess(ignored -> log.info("Notification sent for orderId={}", orderId))
+                .onErrorResume(e -> {
+                    log.warn("Notification failed for orderId={}: {}", orderId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> updateStatus(Long orderId, OrderStatus status, Long deadlineNanos) {
+        return onJpaThread(deadlineNanos, () -> {
+            orderWriter.updateStatus(orderId, status);
+            return orderId;
+        }).then();
+    }
+
+    /**
+     * Runs a blocking JPA call on the bounded elastic scheduler, under the deadline of the request that placed the order.
+     */
+    private <T> Mono<T> onJpaThread(Long deadlineNanos, Callable<T> call) {
+        return Mono.fromCallable(() -> {
+            Long previous = RequestDeadline.capture();
+            RequestDeadline.restore(deadlineNanos);
+            try {
+                return call.call();
+            } finally {
+                RequestDeadline.restore(previous);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Circuit breaker is open: keep the order and let DeferredOrderDrainer place it once dependencies recover.
+     */
+    private Mono<OrderResponseDto> queue(OrderRequestDto requestDto) {
+        log.error("Order circuit breaker is open, queueing order for productCode={} by userId={}",
+                requestDto.getProductCode(), requestDto.getUserId());
+        return Mono.fromCallable(() -> {
+            deferredOrderQueue.enqueue(requestDto);
+            return OrderResponseDto.builder()
+                    .userId(requestDto.getUserId())
+                    .productCode(requestDto.getProductCode())
+                    .quantity(requestDto.getQuantity())
+                    .status(OrderStatus.QUEUED)
+                    .build();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Order newOrder(OrderRequestDto requestDto, ProductDto product, double amount) {
+        return Order.builder()
+                .userId(requestDto.getUserId())
+                .productCode(requestDto.getProductCode())
+                .quantity(requestDto.getQuantity())
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.CONFIRMED)
+                .unitPrice(product.getPrice())
+                .totalAmount(amount)
+                .build();
+    }
+
+    private OrderResponseDto mapToDto(Order order, OrderStatus status) {
+        return OrderResponseDto.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .productCode(order.getProductCode())
+                .quantity(order.getQuantity())
+                .orderDate(order.getOrderDate())
+                .status(status)
+                .build();
+    }
+
+    private record OrderLookups(ProductDto product, Boolean inStock, UserDto user) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.mylearning.orderservice.util;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive concurrency limit using additive-increase / multiplicative-decrease. While calls complete within
+ * the latency target and the limit is actually in use, the limit grows by one; a slow or failed call shrinks it
+ * by {@code backoffRatio}. Calls beyond the current limit are refused immediately instead of queueing.
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyTargetNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyTargetMs) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserves a slot, or returns empty when the limit is reached. The caller must complete the returned permit.
+     */
+    public synchronized Optional<Permit> tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return Optional.empty();
+        }
+        inFlight++;
+        return Optional.of(new Permit(System.nanoTime()));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private synchronized void release(long latencyNanos, boolean failed) {
+        int observedInFlight = inFlight--;
+        if (failed || latencyNanos > latencyTargetNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (observedInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        public void onSuccess() {
+            complete(false);
+        }
+
+        /**
+         * The call failed in a way that indicates overload (e.g. a timeout or a full bulkhead).
+         */
+        public void onFailure() {
+            complete(true);
+        }
+
+        private void complete(boolean failed) {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(System.nanoTime() - startNanos, failed);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.mylearning.orderservice.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedges an idempotent call: if the first attempt has not answered within the recent latency percentile, a second
+ * identical attempt is sent (through the load balancer, so normally to another instance) and whichever succeeds
+ * first wins. The other attempt is then cancelled; a response it still receives is discarded.
+ * Publishes {@code order.client.latency}, {@code order.client.hedge.sent} and {@code order.client.hedge.wins{winner}}
+ * tagged with the downstream name. When disabled, calls run directly on the caller's thread.
+ */
+public class Hedger {
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMs;
+    private final AsyncTaskExecutor executor;
+    private final Timer latency;
+    private final Counter hedgesSent;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+
+    public Hedger(String downstream, boolean enabled, double percentile, long minDelayMs, AsyncTaskExecutor executor,
+                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMs = minDelayMs;
+        this.executor = executor;
+        this.latency = Timer.builder("order.client.latency")
+                .tag("downstream", downstream)
+                .publishPercentiles(percentile)
+                .register(meterRegistry);
+        this.hedgesSent = meterRegistry.counter("order.client.hedge.sent", "downstream", downstream);
+        this.primaryWins = meterRegistry.counter("order.client.hedge.wins", "downstream", downstream, "winner", "primary");
+        this.hedgeWins = meterRegistry.counter("order.client.hedge.wins", "downstream", downstream, "winner", "hedge");
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return latency.record(call);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        Future<?> primary;
+        try {
+            primary = submit(call, result, pending, primaryWins);
+        } catch (RejectedExecutionException e) {
+            return latency.record(call);
+        }
+        Future<?> hedge = null;
+        try {
+            try {
+                return result.get(hedgeDelayMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                pending.incrementAndGet();
+                try {
+                    hedge = submit(call, result, pending, hedgeWins);
+                    hedgesSent.increment();
+                } catch (RejectedExecutionException rejected) {
+                    pending.decrementAndGet();
+                }
+                return result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for hedged call", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private long hedgeDelayMs() {
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return Math.max(minDelayMs, (long) value.value(TimeUnit.MILLISECONDS));
+            }
+        }
+        return minDelayMs;
+    }
+
+    private <T> Future<?> submit(Supplier<T> call, CompletableFuture<T> result, AtomicInteger pending, Counter wins) {
+        return executor.submit(() -> {
+            try {
+                T value = latency.record(call);
+                if (result.complete(value)) {
+                    wins.increment();
+                }
+            } catch (RuntimeException e) {
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.mylearning.orderservice.util;
+
+import com.mylearning.commonconfig.retry.DownstreamRetry;
+import com.mylearning.commonconfig.retry.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * {@link DownstreamRetry} with a non-blocking variant for WebClient calls: same attempts, retry budgets and jittered
+ * backoff, but the backoff is a timer rather than a sleeping thread. Blocking and reactive calls to a downstream
+ * share its budget.
+ */
+public class ReactiveDownstreamRetry extends DownstreamRetry {
+
+    public ReactiveDownstreamRetry(String meterName, int maxAttempts, long baseDelayMs, long maxDelayMs,
+                                   double budgetRatio, int budgetMaxTokens, MeterRegistry meterRegistry) {
+        super(meterName, maxAttempts, baseDelayMs, maxDelayMs, budgetRatio, budgetMaxTokens, meterRegistry);
+    }
+
+    /**
+     * Retries {@code call} by resubscribing to it for every attempt.
+     */
+    public <T> Mono<T> execute(String downstream, Mono<T> call) {
+        return Mono.defer(() -> {
+            RetryBudget budget = budget(downstream);
+            budget.onRequest();
+            return call.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                int attempt = (int) signal.totalRetries() + 1;
+                if (!shouldRetry(downstream, budget, attempt, signal.failure())) {
+                    return Mono.error(signal.failure());
+                }
+                // Resubscribe off the timer thread: acquiring a bulkhead slot may wait briefly
+                return Mono.delay(Duration.ofMillis(backoffMillis(attempt)), Schedulers.boundedElastic());
+            })));
+        });
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable e) {
+        return super.isRetryable(e) || e instanceof WebClientRequestException
+                || (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+}
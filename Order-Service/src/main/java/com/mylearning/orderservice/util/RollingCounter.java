@@ -0,0 +1,77 @@
+package com.mylearning.orderservice.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sum over a sliding time window, kept as a ring of fixed-width buckets. Each bucket is a {@link LongAdder},
+ * so concurrent writers do not contend on a single counter and recording takes no lock. A bucket is
+ * reset lazily by the first writer that finds it holding an older interval; an increment racing with
+ * that reset may be lost, which is acceptable for dashboard figures.
+ */
+public class RollingCounter {
+
+    private final int buckets;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+    private final AtomicLongArray intervals;
+    private final LongAdder[] adders;
+
+    public RollingCounter(int buckets, long bucketMillis) {
+        this(buckets, bucketMillis, System::currentTimeMillis);
+    }
+
+    public RollingCounter(int buckets, long bucketMillis, LongSupplier clock) {
+        this.buckets = buckets;
+        this.bucketMillis = bucketMillis;
+        this.clock = clock;
+        this.intervals = new AtomicLongArray(buckets);
+        this.adders = new LongAdder[buckets];
+        for (int i = 0; i < buckets; i++) {
+            intervals.set(i, -1);
+            adders[i] = new LongAdder();
+        }
+    }
+
+    public void add(long value) {
+        long interval = clock.getAsLong() / bucketMillis;
+        int index = (int) (interval % buckets);
+        long seen = intervals.get(index);
+        if (seen < interval && intervals.compareAndSet(index, seen, interval)) {
+            adders[index].reset();
+        }
+        adders[index].add(value);
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Sum of the most recent {@code lastBuckets} buckets, including the one currently being filled.
+     */
+    public long sum(int lastBuckets) {
+        long current = clock.getAsLong() / bucketMillis;
+        long oldest = current - Math.min(lastBuckets, buckets) + 1;
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            long interval = intervals.get(i);
+            if (interval >= oldest && interval <= current) {
+                total += adders[i].sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sum over the whole window.
+     */
+    public long sum() {
+        return sum(buckets);
+    }
+
+    public long getWindowMillis() {
+        return buckets * bucketMillis;
+    }
+}
@@ -0,0 +1,57 @@
+package com.mylearning.orderservice.util;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller performs the call and every caller that
+ * arrives while it is in flight waits for and shares its result (or failure). Nothing is kept once the
+ * call completes, so results are never staler than an uncoalesced call.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter sharedCalls;
+
+    public SingleFlight(Counter sharedCalls) {
+        this.sharedCalls = sharedCalls;
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            sharedCalls.increment();
+            return await(existing);
+        }
+        try {
+            V value = call.get();
+            leader.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Errors too, or callers waiting on this call would never return
+            leader.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
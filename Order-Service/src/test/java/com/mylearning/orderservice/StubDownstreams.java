@@ -0,0 +1,84 @@
+package com.mylearning.orderservice;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub product, stock, user, payment and notification endpoints on one port for the benchmark and load tests.
+ * Every call answers after a fixed delay without holding a thread. Payments have their own delay and are counted
+ * while they wait, so {@link #getPeakPaymentsInFlight()} is the number of orders blocked on payment-service at once.
+ */
+public final class StubDownstreams {
+
+    private static final String[] SERVICES = {"product-service", "inventory-service", "user-service", "payment-service", "notification-service"};
+
+    private final AtomicInteger paymentsInFlight = new AtomicInteger();
+    private final AtomicInteger peakPaymentsInFlight = new AtomicInteger();
+    private final DisposableServer server;
+
+    private StubDownstreams(long lookupMillis, long paymentMillis) {
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((request, response) -> {
+                    boolean payment = request.uri().startsWith("/api/payments/");
+                    Mono<Long> delay = Mono.delay(Duration.ofMillis(payment ? paymentMillis : lookupMillis));
+                    if (payment) {
+                        delay = delay.doOnSubscribe(subscription -> peakPaymentsInFlight.accumulateAndGet(paymentsInFlight.incrementAndGet(), Math::max))
+                                .doFinally(signal -> paymentsInFlight.decrementAndGet());
+                    }
+                    return request.receive().then()
+                            .then(delay)
+                            .then(response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                    .sendString(Mono.just(responseBody(request.uri())))
+                                    .then());
+                })
+                .bindNow();
+    }
+
+    /**
+     * Starts the stub; lookups and notifications answer after {@code lookupMillis}, payments after {@code paymentMillis}.
+     */
+    public static StubDownstreams start(long lookupMillis, long paymentMillis) {
+        return new StubDownstreams(lookupMillis, paymentMillis);
+    }
+
+    /**
+     * Points every downstream service at the stub through the simple discovery client.
+     */
+    public void register(DynamicPropertyRegistry registry) {
+        for (String service : SERVICES) {
+            registry.add("spring.cloud.discovery.client.simple.instances." + service + "[0].uri",
+                    () -> "http://localhost:" + server.port());
+        }
+    }
+
+    public int getPeakPaymentsInFlight() {
+        return peakPaymentsInFlight.get();
+    }
+
+    public void stop() {
+        server.disposeNow();
+    }
+
+    private static String responseBody(String uri) {
+        if (uri.startsWith("/api/products/code/")) {
+            String code = uri.substring("/api/products/code/".length());
+            return "{\"productCode\":\"" + code + "\",\"name\":\"Product " + code + "\",\"price\":10.0}";
+        }
+        if (uri.startsWith("/api/inventory/isInStock/")) {
+            return "true";
+        }
+        if (uri.startsWith("/api/users/")) {
+            String id = uri.substring("/api/users/".length());
+            return "{\"id\":" + id + ",\"username\":\"user" + id + "\",\"email\":\"user" + id + "@example.com\"}";
+        }
+        return "";
+    }
+}
@@ -0,0 +1,188 @@
+package com.mylearning.orderservice.archive;
+
+import com.mylearning.orderservice.entity.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private final LocalDateTime start = LocalDateTime.of(2024, 1, 31, 12, 0);
+
+    private OrderArchive newArchive() {
+        return new OrderArchive(directory.toString(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Orders one hour apart with ids 1..count, so they straddle the January/February segment boundary.
+     */
+    private List<ArchivedOrder> orders(int count) {
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            List<ArchivedOrder.Line> lines = i % 10 == 0
+                    ? List.of(new ArchivedOrder.Line("P001", 1, 10.0), new ArchivedOrder.Line("P002", 2, 5.0))
+                    : List.of();
+            orders.add(new ArchivedOrder((long) i, 7L, "P00" + (i % 3), 1, start.plusHours(i), OrderStatus.PAID,
+                    lines.isEmpty() ? 10.0 : null, 10.0 + i, lines));
+        }
+        return orders;
+    }
+
+    @Test
+    void find_ShouldLocateEveryOrderThroughSparseIndex() {
+        // Arrange
+        OrderArchive archive = newArchive();
+        List<ArchivedOrder> orders = orders(300);
+
+        // Act
+        archive.append(orders);
+
+        // Assert
+        assertEquals(300, archive.size());
+        for (ArchivedOrder order : orders) {
+            assertEquals(order, archive.find(order.id()).orElseThrow());
+        }
+        assertTrue(archive.find(301L).isEmpty());
+        assertTrue(archive.find(0L).isEmpty());
+    }
+
+    @Test
+    void find_WhenIdsAreNotInDateOrder_ShouldLocateEveryOrder() {
+        // Arrange
+        OrderArchive archive = newArchive();
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            orders.add(new ArchivedOrder((long) (i * 37 % 211), 7L, "P001", 1, start.minusHours(i), OrderStatus.PAID, 10.0, 10.0, List.of()));
+        }
+
+        // Act
+        archive.append(orders);
+
+        // Assert
+        for (ArchivedOrder order : orders) {
+            assertEquals(order, archive.find(order.id()).orElseThrow());
+        }
+        assertTrue(archive.find(211L).isEmpty());
+    }
+
+    @Test
+    void open_ShouldRewriteVersion1Segment() throws Exception {
+        // Arrange
+        List<ArchivedOrder> orders = orders(20);
+        Files.write(directory.resolve("orders-2024-02-000000000007.seg"), version1Segment(orders));
+
+        // Act
+        OrderArchive archive = newArchive();
+
+        // Assert
+        assertEquals(20, archive.size());
+        assertEquals(orders.get(4), archive.find(5L).orElseThrow());
+        assertEquals(List.of(20L, 19L), archive.findUserPageBefore(7L, null, null, 2).stream().map(ArchivedOrder::id).toList());
+        archive.append(List.of(new ArchivedOrder(21L, 7L, "P001", 1, start.plusDays(1), OrderStatus.PAID, 10.0, 10.0, List.of())));
+        assertTrue(Files.exists(directory.resolve("orders-2024-02-000000000008.seg")));
+    }
+
+    /**
+     * Segment in the version 1 layout: 56-byte header, records by id, sparse (id, offset) index.
+     */
+    private static byte[] version1Segment(List<ArchivedOrder> orders) {
+        List<byte[]> records = orders.stream().map(ArchivedOrder::encode).toList();
+        int recordBytes = records.stream().mapToInt(record -> Integer.BYTES + record.length).sum();
+        int headerBytes = 4 * Integer.BYTES + 5 * Long.BYTES;
+        ByteBuffer out = ByteBuffer.allocate(headerBytes + recordBytes + 2 * Long.BYTES);
+        out.putInt(0x4F415243).putInt(1).putInt(records.size()).putInt(1)
+                .putLong(orders.get(0).id())
+                .putLong(orders.get(orders.size() - 1).id())
+                .putLong(orders.get(0).orderDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(orders.get(orders.size() - 1).orderDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(headerBytes + recordBytes);
+        records.forEach(record -> out.putInt(record.length).put(record));
+        out.putLong(orders.get(0).id()).putLong(headerBytes);
+        return out.array();
+    }
+
+    @Test
+    void append_ShouldPartitionByMonthAndSurviveReopen() {
+        // Arrange
+        newArchive().append(orders(48));
+
+        // Act
+        OrderArchive reopened = newArchive();
+        reopened.append(List.of(new ArchivedOrder(100L, 7L, "P009", 1, start.plusDays(60), OrderStatus.REJECTED, null, null, List.of())));
+
+        // Assert
+        assertEquals(49, reopened.size());
+        assertEquals(2, reopened.find(10L).orElseThrow().lines().size());
+        assertNull(reopened.find(100L).orElseThrow().totalAmount());
+        assertEquals(start.plusDays(60).withNano(0), reopened.latestOrderDate().orElseThrow());
+    }
+
+    @Test
+    void findPageAfter_ShouldPageInDateOrderAcrossSegments() {
+        // Arrange
+        OrderArchive archive = newArchive();
+        archive.append(orders(30));
+
+        // Act
+        List<ArchivedOrder> first = archive.findPageAfter(null, null, 10);
+        ArchivedOrder last = first.get(first.size() - 1);
+        List<ArchivedOrder> rest = archive.findPageAfter(last.orderDate(), last.id(), 100);
+
+        // Assert
+        assertEquals(10, first.size());
+        assertEquals(1L, first.get(0).id());
+        assertEquals(10L, last.id());
+        assertEquals(20, rest.size());
+        assertEquals(11L, rest.get(0).id());
+        assertEquals(30L, rest.get(19).id());
+    }
+
+    @Test
+    void findUserPageBefore_ShouldPageUsersOrdersNewestFirstAcrossSegments() {
+        // Arrange
+        OrderArchive archive = newArchive();
+        List<ArchivedOrder> orders = orders(30);
+        orders.add(new ArchivedOrder(31L, 8L, "P001", 1, start.plusHours(31), OrderStatus.PAID, 10.0, 10.0, List.of()));
+        archive.append(orders);
+
+        // Act
+        List<ArchivedOrder> first = archive.findUserPageBefore(7L, null, null, 10);
+        ArchivedOrder last = first.get(first.size() - 1);
+        List<ArchivedOrder> rest = archive.findUserPageBefore(7L, last.orderDate(), last.id(), 100);
+
+        // Assert
+        assertEquals(10, first.size());
+        assertEquals(30L, first.get(0).id());
+        assertEquals(21L, last.id());
+        assertEquals(20, rest.size());
+        assertEquals(20L, rest.get(0).id());
+        assertEquals(1L, rest.get(19).id());
+    }
+
+    @Test
+    void forEachBetween_ShouldOnlyVisitOrdersInPeriod() {
+        // Arrange
+        OrderArchive archive = newArchive();
+        archive.append(orders(48));
+        List<Long> visited = new ArrayList<>();
+
+        // Act
+        archive.forEachBetween(start.plusHours(12), start.plusHours(14), order -> visited.add(order.id()));
+
+        // Assert
+        assertEquals(List.of(12L, 13L), visited);
+    }
+}
@@ -0,0 +1,80 @@
+package com.mylearning.orderservice.archive;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.repository.OrderRepository;
+import com.mylearning.orderservice.service.OrderWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiverTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderWriter orderWriter;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @InjectMocks
+    private OrderArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(archiver, "enabled", true);
+        ReflectionTestUtils.setField(archiver, "maxAgeDays", 365);
+        ReflectionTestUtils.setField(archiver, "batchSize", 100);
+    }
+
+    @Test
+    void archive_WhenEarlierDeleteFailed_ShouldOnlyDeleteAlreadyArchivedOrders() {
+        // Arrange
+        LocalDateTime orderDate = LocalDateTime.now().minusYears(2);
+        Order order = Order.builder().id(2L).userId(1L).productCode("P001").quantity(1)
+                .orderDate(orderDate).status(OrderStatus.PAID).totalAmount(10.0).build();
+        when(orderRepository.findIdsToArchive(any(LocalDateTime.class), anyCollection(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(orderArchive.find(1L)).thenReturn(Optional.of(
+                new ArchivedOrder(1L, 1L, "P001", 1, orderDate, OrderStatus.PAID, 10.0, 10.0, List.of())));
+        when(orderArchive.find(2L)).thenReturn(Optional.empty());
+        when(orderRepository.findAllWithLinesByIdIn(List.of(2L))).thenReturn(List.of(order));
+
+        // Act
+        archiver.archive();
+
+        // Assert
+        verify(orderArchive).append(argThat(orders -> orders.size() == 1 && orders.get(0).id() == 2L));
+        verify(orderWriter).deleteArchived(List.of(1L, 2L));
+    }
+
+    @Test
+    void archive_WhenEveryOrderAlreadyArchived_ShouldNotAppendAgain() {
+        // Arrange
+        LocalDateTime orderDate = LocalDateTime.now().minusYears(2);
+        when(orderRepository.findIdsToArchive(any(LocalDateTime.class), anyCollection(), any(Pageable.class))).thenReturn(List.of(1L));
+        when(orderArchive.find(1L)).thenReturn(Optional.of(
+                new ArchivedOrder(1L, 1L, "P001", 1, orderDate, OrderStatus.PAID, 10.0, 10.0, List.of())));
+
+        // Act
+        archiver.archive();
+
+        // Assert
+        verify(orderArchive, never()).append(anyList());
+        verify(orderWriter).deleteArchived(List.of(1L));
+    }
+}
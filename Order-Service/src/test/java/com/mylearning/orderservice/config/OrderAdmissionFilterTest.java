@@ -0,0 +1,60 @@
+package com.mylearning.orderservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.util.AimdLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAdmissionFilterTest {
+
+    private AimdLimiter limiter;
+    private OrderAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AimdLimiter(8, 1, 10, 0.5, 1000);
+        Counter rejected = new SimpleMeterRegistry().counter("order.admission.rejected");
+        filter = new OrderAdmissionFilter(limiter, rejected, new ObjectMapper(), 1);
+    }
+
+    @Test
+    void doFilter_WhenOrderFailsWithInternalError_ShouldKeepLimit() throws Exception {
+        // Act
+        place(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        // Assert
+        assertEquals(8, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_WhenOrderIsShedWithServiceUnavailable_ShouldBackOff() throws Exception {
+        // Act
+        place(HttpStatus.SERVICE_UNAVAILABLE);
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void doFilter_WhenOrderTimesOut_ShouldBackOff() throws Exception {
+        // Act
+        place(HttpStatus.GATEWAY_TIMEOUT);
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+    }
+
+    private void place(HttpStatus status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> response.setStatus(status.value()));
+    }
+}
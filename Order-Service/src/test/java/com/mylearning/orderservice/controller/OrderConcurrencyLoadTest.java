@@ -0,0 +1,120 @@
+package com.mylearning.orderservice.controller;
+
+import com.mylearning.orderservice.StubDownstreams;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test: {@value #REQUESTS} concurrent orders placed over HTTP through the real order pipeline (admission,
+ * lookups, order writes, payment and notification) against stub downstream services. Lookups and notifications
+ * answer after {@value #LOOKUP_MILLIS} ms and payments after {@value #PAYMENT_MILLIS} ms, without holding a thread.
+ * Admission, bulkheads, HTTP and JDBC connection pools and the lookup pool are raised so nothing sheds load. With virtual threads
+ * more payments are in flight at once, each holding its request thread, than Tomcat's {@value #PLATFORM_THREADS}
+ * request threads. Run with {@code mvn -Pjava21 test -Dloadtest=true -Dtest=OrderConcurrencyLoadTest} on a Java 21 JDK.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=" + OrderConcurrencyLoadTest.PLATFORM_THREADS,
+        "eureka.client.enabled=false",
+        "order.archive.enabled=false",
+        "order.admission.initial-limit=5000",
+        "order.admission.min-limit=5000",
+        "order.admission.max-limit=5000",
+        "order.lookup.pool-size=3000",
+        "order.lookup.queue-capacity=0",
+        "spring.datasource.hikari.maximum-pool-size=50",
+        "downstream.clients.product-service.max-connections=1000",
+        "downstream.clients.inventory-service.max-connections=1000",
+        "downstream.clients.user-service.max-connections=1000",
+        "downstream.clients.payment-service.max-connections=1000",
+        "downstream.clients.notification-service.max-connections=1000",
+        "resilience4j.bulkhead.instances.product-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.inventory-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.user-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.payment-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.notification-service.maxConcurrentCalls=5000"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@Slf4j
+class OrderConcurrencyLoadTest {
+
+    static final int PLATFORM_THREADS = 200;
+    private static final int REQUESTS = 1000;
+    private static final long LOOKUP_MILLIS = 50;
+    private static final long PAYMENT_MILLIS = 1000;
+
+    private static StubDownstreams downstreams;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void downstreamInstances(DynamicPropertyRegistry registry) {
+        downstreams = StubDownstreams.start(LOOKUP_MILLIS, PAYMENT_MILLIS);
+        downstreams.register(registry);
+    }
+
+    @AfterAll
+    static void stopDownstreams() {
+        if (downstreams != null) {
+            downstreams.stop();
+        }
+    }
+
+    @Test
+    void placeOrder_ShouldHoldMoreOrdersInFlightThanPlatformThreads() {
+        // Arrange
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // Act
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(client.sendAsync(request(i), HttpResponse.BodyHandlers.ofString()));
+        }
+        long paid = responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200 && response.body().contains("\"status\":\"PAID\""))
+                .count();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        int peakPayments = downstreams.getPeakPaymentsInFlight();
+        log.info("{}/{} orders paid in {} ms, peak payments in flight {} (Tomcat platform threads {})",
+                paid, REQUESTS, elapsedMs, peakPayments, PLATFORM_THREADS);
+        assertEquals(REQUESTS, paid, "orders paid in " + elapsedMs + " ms");
+        assertTrue(peakPayments > PLATFORM_THREADS,
+                "peak payments in flight " + peakPayments + ", Tomcat platform threads " + PLATFORM_THREADS);
+    }
+
+    private HttpRequest request(int i) {
+        String body = "{\"userId\":" + (i % 100 + 1) + ",\"productCode\":\"P" + String.format("%03d", i % 50) + "\",\"quantity\":1}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -1,11 +1,30 @@
 package com.mylearning.orderservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.dto.BatchOrderRequestDto;
+import com.mylearning.orderservice.dto.BatchOrderResponseDto;
+import com.mylearning.orderservice.dto.CartLineDto;
+import com.mylearning.orderservice.dto.CartOrderRequestDto;
+import com.mylearning.orderservice.dto.CartOrderResponseDto;
+import com.mylearning.orderservice.dto.DailyRevenueDto;
+import com.mylearning.orderservice.dto.OrderLineDto;
+import com.mylearning.orderservice.dto.OrderLineResultDto;
+import com.mylearning.orderservice.dto.OrderPageDto;
 import com.mylearning.orderservice.dto.OrderRequestDto;
 import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.dto.OrderSummaryDto;
+import com.mylearning.orderservice.dto.OrderSummaryPageDto;
+import com.mylearning.orderservice.dto.OrderViewDto;
+import com.mylearning.orderservice.entity.OrderStatus;
 import com.mylearning.orderservice.exception.GlobalExceptionHandler;
+import com.mylearning.orderservice.exception.InvalidCursorException;
+import com.mylearning.orderservice.exception.InvalidReportPeriodException;
 import com.mylearning.orderservice.exception.OrderNotFoundException;
+import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.service.IdempotencyStore;
+import com.mylearning.orderservice.service.OrderReportService;
 import com.mylearning.orderservice.service.OrderService;
+import com.mylearning.orderservice.service.OrderViewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +34,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -26,7 +47,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, IdempotencyStore.class})
 class OrderControllerTest {
 
     @Autowired
@@ -35,6 +56,12 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderViewService orderViewService;
+
+    @MockBean
+    private OrderReportService orderReportService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     private OrderResponseDto orderResponseDto;
 
@@ -72,6 +99,187 @@ class OrderControllerTest {
         verify(orderService, times(1)).placeOrder(any(OrderRequestDto.class));
     }
 
+    @Test
+    void placeOrder_WithRespondAsync_ShouldReturnAccepted() throws Exception {
+        // Arrange
+        OrderRequestDto requestDto = new OrderRequestDto(1L, "P001", 2);
+        orderResponseDto.setStatus(OrderStatus.PENDING);
+        when(orderService.acceptOrder(any(OrderRequestDto.class))).thenReturn(orderResponseDto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith("/api/orders/1")))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(orderService, times(1)).acceptOrder(any(OrderRequestDto.class));
+        verify(orderService, never()).placeOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void placeOrder_WhenOutOfStock_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        OrderRequestDto requestDto = new OrderRequestDto(1L, "P001", 2);
+        when(orderService.placeOrder(any(OrderRequestDto.class))).thenThrow(new OutOfStockException("Product is out of stock"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Product is out of stock"));
+    }
+
+    @Test
+    void placeOrder_WhenQueuedByFallback_ShouldReturnAccepted() throws Exception {
+        // Arrange
+        OrderRequestDto requestDto = new OrderRequestDto(1L, "P001", 2);
+        OrderResponseDto queued = OrderResponseDto.builder()
+                .userId(1L)
+                .productCode("P001")
+                .quantity(2)
+                .status(OrderStatus.QUEUED)
+                .build();
+        when(orderService.placeOrder(any(OrderRequestDto.class))).thenReturn(queued);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void placeOrder_WithRepeatedIdempotencyKey_ShouldReplayOriginalResponse() throws Exception {
+        // Arrange
+        OrderRequestDto requestDto = new OrderRequestDto(1L, "P001", 2);
+        when(orderService.placeOrder(any(OrderRequestDto.class))).thenReturn(orderResponseDto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.id").value(1L));
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(1L));
+
+        verify(orderService, times(1)).placeOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void placeOrder_WhenPaymentFailedUnderIdempotencyKey_ShouldReplayFailureWithoutPlacingAgain() throws Exception {
+        // Arrange
+        OrderRequestDto requestDto = new OrderRequestDto(1L, "P001", 2);
+        when(orderService.placeOrder(any(OrderRequestDto.class)))
+                .thenThrow(new RuntimeException("Payment timed out"))
+                .thenReturn(orderResponseDto);
+
+        // Act & Assert
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/orders")
+                    .header("Idempotency-Key", "key-3")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isInternalServerError());
+        }
+
+        verify(orderService, times(1)).placeOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void placeOrder_WhenRejectedUnderIdempotencyKey_ShouldAllowRetryWithSameKey() throws Exception {
+        // Arrange
+        OrderRequestDto requestDto = new OrderRequestDto(1L, "P001", 2);
+        when(orderService.placeOrder(any(OrderRequestDto.class)))
+                .thenThrow(new OutOfStockException("Product is out of stock"))
+                .thenReturn(orderResponseDto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-4")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-4")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        verify(orderService, times(2)).placeOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void placeOrder_WithIdempotencyKeyReusedForOtherRequest_ShouldReturnUnprocessableEntity() throws Exception {
+        // Arrange
+        when(orderService.placeOrder(any(OrderRequestDto.class))).thenReturn(orderResponseDto);
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new OrderRequestDto(1L, "P001", 2))))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new OrderRequestDto(1L, "P001", 5))))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(orderService, times(1)).placeOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void placeOrders_ShouldReturnResultPerLine() throws Exception {
+        // Arrange
+        BatchOrderRequestDto requestDto = new BatchOrderRequestDto(Arrays.asList(
+                new OrderRequestDto(1L, "P001", 2),
+                new OrderRequestDto(1L, "P404", 1)));
+        BatchOrderResponseDto responseDto = BatchOrderResponseDto.builder()
+                .accepted(1)
+                .rejected(1)
+                .results(Arrays.asList(
+                        OrderLineResultDto.builder().index(0).status(OrderStatus.PAID).order(orderResponseDto).build(),
+                        OrderLineResultDto.builder().index(1).status(OrderStatus.REJECTED).error("Product not found with code: P404").build()))
+                .build();
+        when(orderService.placeOrders(any(BatchOrderRequestDto.class))).thenReturn(responseDto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[0].order.id").value(1L))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"));
+    }
+
+    @Test
+    void placeOrders_WithEmptyBatch_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BatchOrderRequestDto(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).placeOrders(any(BatchOrderRequestDto.class));
+    }
+
     @Test
     void placeOrder_WithInvalidRequest_ShouldReturnBadRequest() throws Exception {
         // Arrange
@@ -146,6 +354,159 @@ class OrderControllerTest {
         verify(orderService, times(1)).getAllOrders();
     }
 
+    @Test
+    void getOrdersPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        // Arrange
+        OrderPageDto page = OrderPageDto.builder()
+                .items(List.of(orderResponseDto))
+                .nextCursor("next-token")
+                .build();
+        when(orderService.getOrdersPage("token", 1)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/page")
+                .param("cursor", "token")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void getOrdersByUser_ShouldReturnSummariesAndNextCursor() throws Exception {
+        // Arrange
+        OrderSummaryPageDto page = OrderSummaryPageDto.builder()
+                .items(List.of(new OrderSummaryDto(1L, "P001", 2, LocalDateTime.now(), OrderStatus.PAID)))
+                .nextCursor("next-token")
+                .build();
+        when(orderService.getOrdersByUser(1L, null, 50)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/user/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].productCode").value("P001"))
+                .andExpect(jsonPath("$.items[0].status").value("PAID"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void placeCartOrder_ShouldReturnOrderWithLines() throws Exception {
+        // Arrange
+        CartOrderRequestDto cart = new CartOrderRequestDto(1L, List.of(new CartLineDto("P001", 2), new CartLineDto("P002", 1)));
+        CartOrderResponseDto placed = CartOrderResponseDto.builder()
+                .id(1L)
+                .userId(1L)
+                .status(OrderStatus.PAID)
+                .totalAmount(250.0)
+                .lines(List.of(new OrderLineDto("P001", 2, 100.0), new OrderLineDto("P002", 1, 50.0)))
+                .build();
+        when(orderService.placeCartOrder(any(CartOrderRequestDto.class))).thenReturn(placed);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/cart")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cart)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAmount").value(250.0))
+                .andExpect(jsonPath("$.lines", hasSize(2)));
+    }
+
+    @Test
+    void placeCartOrder_WithNoLines_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/cart")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CartOrderRequestDto(1L, List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).placeCartOrder(any());
+    }
+
+    @Test
+    void getRevenueByDay_ShouldReturnDailyTotals() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 3);
+        when(orderReportService.getRevenueByDay(from, to)).thenReturn(List.of(
+                new DailyRevenueDto(from, 3L, 300.0),
+                new DailyRevenueDto(from.plusDays(1), 1L, 50.0)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/reports/revenue-by-day")
+                .param("from", "2025-01-01")
+                .param("to", "2025-01-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].orders").value(3))
+                .andExpect(jsonPath("$[0].revenue").value(300.0));
+    }
+
+    @Test
+    void getRevenueByProduct_WithInvalidPeriod_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(orderReportService.getRevenueByProduct(any(), any()))
+                .thenThrow(new InvalidReportPeriodException("Report period must end after it starts"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/reports/revenue-by-product")
+                .param("from", "2025-01-03")
+                .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void getOrderDetails_ShouldReturnReadModelView() throws Exception {
+        // Arrange
+        OrderViewDto view = OrderViewDto.builder()
+                .orderId(1L)
+                .userId(1L)
+                .userEmail("user@example.com")
+                .productCode("P001")
+                .productName("Keyboard")
+                .unitPrice(new BigDecimal("25.00"))
+                .quantity(2)
+                .totalAmount(new BigDecimal("50.00"))
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PAID)
+                .build();
+        when(orderViewService.getOrderView(1L)).thenReturn(view);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/1/details"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productName").value("Keyboard"))
+                .andExpect(jsonPath("$.userEmail").value("user@example.com"))
+                .andExpect(jsonPath("$.totalAmount").value(50.00))
+                .andExpect(jsonPath("$.status").value("PAID"));
+
+        verify(orderService, never()).getOrderById(any());
+    }
+
+    @Test
+    void getOrderDetails_WhenViewMissing_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(orderViewService.getOrderView(999L)).thenThrow(new OrderNotFoundException("Order not found with id: 999"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/999/details"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void getOrdersPage_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(orderService.getOrdersPage("bogus", 50)).thenThrow(new InvalidCursorException("Invalid page cursor: bogus"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/page").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
     @Test
     void placeOrder_WhenServiceUnavailable_ShouldReturnError() throws Exception {
         // Arrange
@@ -0,0 +1,90 @@
+package com.mylearning.orderservice.controller;
+
+import com.mylearning.commonconfig.deadline.DeadlineExceededException;
+import com.mylearning.orderservice.client.InventoryClient;
+import com.mylearning.orderservice.client.NotificationClient;
+import com.mylearning.orderservice.client.PaymentClient;
+import com.mylearning.orderservice.client.ProductClient;
+import com.mylearning.orderservice.client.UserClient;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.service.OrderWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Deadline failures on POST /api/orders must reach the caller as 504 through the real service, including its
+ * {@code @CircuitBreaker} fallback, rather than being turned into a generic 500.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@AutoConfigureMockMvc
+class OrderDeadlineTest {
+
+    private static final String ORDER_JSON = "{\"userId\":1,\"productCode\":\"P001\",\"quantity\":2}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductClient productClient;
+
+    @MockBean
+    private InventoryClient inventoryClient;
+
+    @MockBean
+    private UserClient userClient;
+
+    @MockBean
+    private PaymentClient paymentClient;
+
+    @MockBean
+    private NotificationClient notificationClient;
+
+    @MockBean
+    private OrderWriter orderWriter;
+
+    @Test
+    void placeOrder_WhenDeadlineExceededDuringLookup_ShouldReturnGatewayTimeout() throws Exception {
+        // Arrange
+        when(productClient.getByCode("P001"))
+                .thenThrow(new DeadlineExceededException("Request deadline exceeded before calling product-service"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_JSON))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.message").value("Request deadline exceeded before calling product-service"));
+    }
+
+    @Test
+    void placeOrder_WhenOrderTransactionTimesOut_ShouldReturnGatewayTimeout() throws Exception {
+        // Arrange
+        ProductDto product = new ProductDto();
+        product.setProductCode("P001");
+        product.setName("Test Product");
+        product.setPrice(100.0);
+        when(productClient.getByCode("P001")).thenReturn(product);
+        when(inventoryClient.isInStock("P001")).thenReturn(true);
+        when(orderWriter.create(any(Order.class), anyDouble()))
+                .thenThrow(new TransactionTimedOutException("Transaction timed out: deadline was reached"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_JSON))
+                .andExpect(status().isGatewayTimeout());
+    }
+}
@@ -0,0 +1,90 @@
+package com.mylearning.orderservice.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.service.OrderService;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DeferredOrderDrainerTest {
+
+    @TempDir
+    Path directory;
+
+    private DeferredOrderQueue queue;
+    private OrderService orderService;
+    private DeferredOrderDrainer drainer;
+
+    @BeforeEach
+    void setUp() {
+        queue = new DeferredOrderQueue(directory.toString(), 10, new ObjectMapper(), new SimpleMeterRegistry());
+        orderService = mock(OrderService.class);
+        drainer = new DeferredOrderDrainer(queue, orderService, CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(drainer, "batchSize", 10);
+        ReflectionTestUtils.setField(drainer, "maxAttempts", 2);
+        queue.enqueue(new OrderRequestDto(1L, "P001", 1));
+    }
+
+    @Test
+    void drain_WhenOrderPlaced_ShouldRemoveIt() {
+        // Arrange
+        when(orderService.placeOrder(any(OrderRequestDto.class)))
+                .thenReturn(OrderResponseDto.builder().id(1L).status(OrderStatus.PAID).build());
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void drain_WhenOrderRejected_ShouldMoveItToFailed() {
+        // Arrange
+        DeferredOrderQueue.DeferredOrder order = queue.peek(1).get(0);
+        when(orderService.placeOrder(any(OrderRequestDto.class))).thenThrow(new OutOfStockException("Product is out of stock"));
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        assertEquals(0, queue.size());
+        assertTrue(Files.exists(directory.resolve("failed").resolve(order.file().getFileName())));
+    }
+
+    @Test
+    void drain_WhenDownstreamUnreachable_ShouldKeepOrderUntilAttemptsRunOut() {
+        // Arrange
+        when(orderService.placeOrder(any(OrderRequestDto.class)))
+                .thenThrow(new RuntimeException("Order service is currently unavailable, please try later.",
+                        new ResourceAccessException("connection refused")));
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        assertEquals(1, queue.size());
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        assertEquals(0, queue.size());
+        verify(orderService, times(2)).placeOrder(any(OrderRequestDto.class));
+    }
+}
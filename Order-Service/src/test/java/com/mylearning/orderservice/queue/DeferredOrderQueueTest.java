@@ -0,0 +1,86 @@
+package com.mylearning.orderservice.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredOrderQueueTest {
+
+    @TempDir
+    Path directory;
+
+    private DeferredOrderQueue newQueue(int capacity) {
+        return new DeferredOrderQueue(directory.toString(), capacity, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void peek_ShouldReturnOrdersInEnqueueOrder() {
+        // Arrange
+        DeferredOrderQueue queue = newQueue(10);
+        queue.enqueue(new OrderRequestDto(1L, "P001", 1));
+        queue.enqueue(new OrderRequestDto(2L, "P002", 2));
+
+        // Act
+        List<DeferredOrderQueue.DeferredOrder> orders = queue.peek(10);
+
+        // Assert
+        assertEquals(2, orders.size());
+        assertEquals("P001", orders.get(0).request().getProductCode());
+        assertEquals("P002", orders.get(1).request().getProductCode());
+    }
+
+    @Test
+    void enqueue_WhenFull_ShouldThrowServiceBusy() {
+        // Arrange
+        DeferredOrderQueue queue = newQueue(1);
+        queue.enqueue(new OrderRequestDto(1L, "P001", 1));
+
+        // Act & Assert
+        assertThrows(ServiceBusyException.class, () -> queue.enqueue(new OrderRequestDto(2L, "P002", 2)));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void newQueue_ShouldRecoverPendingOrdersAfterRestart() {
+        // Arrange
+        DeferredOrderQueue queue = newQueue(10);
+        queue.enqueue(new OrderRequestDto(1L, "P001", 1));
+        queue.enqueue(new OrderRequestDto(2L, "P002", 2));
+        queue.remove(queue.peek(1).get(0));
+
+        // Act
+        DeferredOrderQueue restarted = newQueue(10);
+        restarted.enqueue(new OrderRequestDto(3L, "P003", 3));
+
+        // Assert
+        List<DeferredOrderQueue.DeferredOrder> orders = restarted.peek(10);
+        assertEquals(2, restarted.size());
+        assertEquals("P002", orders.get(0).request().getProductCode());
+        assertEquals("P003", orders.get(1).request().getProductCode());
+    }
+
+    @Test
+    void fail_ShouldMoveOrderOutOfQueue() {
+        // Arrange
+        DeferredOrderQueue queue = newQueue(10);
+        queue.enqueue(new OrderRequestDto(1L, "P001", 1));
+        DeferredOrderQueue.DeferredOrder order = queue.peek(1).get(0);
+
+        // Act
+        queue.fail(order);
+
+        // Assert
+        assertEquals(0, queue.size());
+        assertTrue(queue.peek(10).isEmpty());
+        assertTrue(Files.exists(directory.resolve("failed").resolve(order.file().getFileName())));
+    }
+}
@@ -0,0 +1,97 @@
+package com.mylearning.orderservice.readmodel;
+
+import com.mylearning.orderservice.client.ProductClient;
+import com.mylearning.orderservice.client.UserClient;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.dto.UserDto;
+import com.mylearning.orderservice.entity.OrderView;
+import com.mylearning.orderservice.repository.OrderViewRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewEnricherTest {
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private ThreadPoolTaskExecutor orderViewExecutor;
+
+    @InjectMocks
+    private OrderViewEnricher enricher;
+
+    @Test
+    void enrich_ShouldFetchDetailsThenFillView() {
+        // Arrange
+        when(productClient.getByCode("P001")).thenReturn(new ProductDto(1L, "P001", "Keyboard", null, 25.0, null, null));
+        when(userClient.getById(7L)).thenReturn(new UserDto(7L, "user", "user@example.com"));
+
+        // Act
+        enricher.enrich(1L, "P001", 7L);
+
+        // Assert
+        verify(orderViewRepository).fillDetails(eq(1L), eq("Keyboard"), eq("user@example.com"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void enrich_WhenUserServiceDown_ShouldStillFillProductDetails() {
+        // Arrange
+        when(productClient.getByCode("P001")).thenReturn(new ProductDto(1L, "P001", "Keyboard", null, 25.0, null, null));
+        when(userClient.getById(7L)).thenThrow(new ResourceAccessException("down"));
+
+        // Act
+        enricher.enrich(1L, "P001", 7L);
+
+        // Assert
+        verify(orderViewRepository).fillDetails(eq(1L), eq("Keyboard"), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void enrichLater_ForCartOrderView_ShouldOnlyFetchCustomer() {
+        // Arrange
+        OrderView cartView = OrderView.builder().orderId(1L).userId(7L).quantity(3).build();
+        when(userClient.getById(7L)).thenReturn(new UserDto(7L, "user", "user@example.com"));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(orderViewExecutor).execute(any(Runnable.class));
+
+        // Act
+        enricher.enrichLater(cartView);
+
+        // Assert
+        verify(orderViewRepository).fillDetails(eq(1L), isNull(), eq("user@example.com"), any(LocalDateTime.class));
+        verifyNoInteractions(productClient);
+    }
+
+    @Test
+    void refreshProductName_ShouldUpdateViewsOfProduct() {
+        // Arrange
+        when(productClient.getByCode("P001")).thenReturn(new ProductDto(1L, "P001", "Mechanical Keyboard", null, 30.0, null, null));
+
+        // Act
+        enricher.refreshProductName("P001");
+
+        // Assert
+        verify(orderViewRepository).updateProductName(eq("P001"), eq("Mechanical Keyboard"), any(LocalDateTime.class));
+    }
+}
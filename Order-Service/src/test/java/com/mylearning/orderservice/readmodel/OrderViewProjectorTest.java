@@ -0,0 +1,167 @@
+package com.mylearning.orderservice.readmodel;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderLine;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.entity.OrderView;
+import com.mylearning.orderservice.event.OrderCreatedEvent;
+import com.mylearning.orderservice.event.OrderStatusChangedEvent;
+import com.mylearning.orderservice.event.ProductChangedEvent;
+import com.mylearning.orderservice.repository.OrderRepository;
+import com.mylearning.orderservice.repository.OrderViewRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewProjectorTest {
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderViewEnricher orderViewEnricher;
+
+    @InjectMocks
+    private OrderViewProjector projector;
+
+    private Order order() {
+        return Order.builder()
+                .id(1L)
+                .userId(7L)
+                .productCode("P001")
+                .quantity(2)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.CONFIRMED)
+                .build();
+    }
+
+    @Test
+    void onOrderCreated_ShouldBuildViewAndEnrichItLater() {
+        // Arrange
+        Order order = order();
+        order.setUnitPrice(25.0);
+        order.setTotalAmount(50.0);
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(order));
+
+        // Act
+        projector.on(OrderCreatedEvent.builder().orderId("1").amount(new BigDecimal("50.0")).status("CONFIRMED").build());
+
+        // Assert
+        ArgumentCaptor<OrderView> saved = ArgumentCaptor.forClass(OrderView.class);
+        verify(orderViewRepository).save(saved.capture());
+        assertEquals(BigDecimal.valueOf(25.0), saved.getValue().getUnitPrice());
+        assertEquals(BigDecimal.valueOf(50.0), saved.getValue().getTotalAmount());
+        assertEquals(OrderStatus.CONFIRMED, saved.getValue().getStatus());
+        verify(orderViewEnricher).enrichLater(saved.getValue());
+    }
+
+    @Test
+    void onOrderCreated_WhenAcceptedOrderIsConfirmed_ShouldTakePricesFromOrder() {
+        // Arrange
+        OrderView pendingView = OrderView.builder()
+                .orderId(1L).userId(7L).userEmail("user@example.com")
+                .productCode("P001").productName("Keyboard").quantity(2)
+                .status(OrderStatus.PENDING)
+                .build();
+        Order confirmed = order();
+        confirmed.setUnitPrice(25.0);
+        confirmed.setTotalAmount(50.0);
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.of(pendingView));
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(confirmed));
+
+        // Act
+        projector.on(OrderCreatedEvent.builder().orderId("1").amount(new BigDecimal("50.0")).status("CONFIRMED").build());
+
+        // Assert
+        assertEquals(BigDecimal.valueOf(25.0), pendingView.getUnitPrice());
+        assertEquals(BigDecimal.valueOf(50.0), pendingView.getTotalAmount());
+        assertEquals(OrderStatus.CONFIRMED, pendingView.getStatus());
+        verify(orderViewRepository).save(pendingView);
+        verifyNoInteractions(orderViewEnricher);
+    }
+
+    @Test
+    void onOrderCreated_ForCartOrder_ShouldBuildMultiProductView() {
+        // Arrange
+        Order cart = order();
+        cart.setQuantity(3);
+        cart.setTotalAmount(40.0);
+        cart.getLines().add(OrderLine.builder().order(cart).productCode("P001").quantity(2).unitPrice(10.0).build());
+        cart.getLines().add(OrderLine.builder().order(cart).productCode("P002").quantity(1).unitPrice(20.0).build());
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(cart));
+
+        // Act
+        projector.on(OrderCreatedEvent.builder().orderId("1").amount(new BigDecimal("40.0")).status("CONFIRMED").build());
+
+        // Assert
+        ArgumentCaptor<OrderView> saved = ArgumentCaptor.forClass(OrderView.class);
+        verify(orderViewRepository).save(saved.capture());
+        assertNull(saved.getValue().getProductCode());
+        assertNull(saved.getValue().getUnitPrice());
+        assertEquals(3, saved.getValue().getQuantity());
+        assertEquals(BigDecimal.valueOf(40.0), saved.getValue().getTotalAmount());
+    }
+
+    @Test
+    void onOrderStatusChanged_ForPendingOrder_ShouldBuildView() {
+        // Arrange
+        Order pending = order();
+        pending.setStatus(OrderStatus.PENDING);
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(pending));
+
+        // Act
+        projector.on(OrderStatusChangedEvent.builder().orderId("1").status("PENDING").build());
+
+        // Assert
+        ArgumentCaptor<OrderView> saved = ArgumentCaptor.forClass(OrderView.class);
+        verify(orderViewRepository).save(saved.capture());
+        assertEquals(OrderStatus.PENDING, saved.getValue().getStatus());
+        assertNull(saved.getValue().getTotalAmount());
+    }
+
+    @Test
+    void onOrderStatusChanged_ShouldUpdateExistingViewWithoutEnriching() {
+        // Arrange
+        OrderView view = OrderView.builder()
+                .orderId(1L).userId(7L).userEmail("user@example.com")
+                .productCode("P001").productName("Keyboard")
+                .status(OrderStatus.CONFIRMED)
+                .build();
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.of(view));
+
+        // Act
+        projector.on(OrderStatusChangedEvent.builder().orderId("1").status("PAID").build());
+
+        // Assert
+        assertEquals(OrderStatus.PAID, view.getStatus());
+        verify(orderViewRepository).save(view);
+        verifyNoInteractions(orderViewEnricher, orderRepository);
+    }
+
+    @Test
+    void onProductChanged_ShouldHandOffProductNameRefresh() {
+        // Act
+        projector.on(ProductChangedEvent.builder().productCode("P001").build());
+
+        // Assert
+        verify(orderViewEnricher).refreshProductNameLater("P001");
+        verifyNoInteractions(orderViewRepository);
+    }
+}
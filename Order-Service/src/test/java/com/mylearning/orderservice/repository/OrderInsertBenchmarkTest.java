@@ -0,0 +1,97 @@
+package com.mylearning.orderservice.repository;
+
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Write-path benchmark: inserts per second on one connection, flushing each order on its own versus
+ * JDBC-batched inserts with pooled sequence IDs. Run with {@code mvn test -Dbenchmark=true -Dtest=OrderInsertBenchmarkTest}.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderInsertBenchmarkTest {
+
+    private static final int ORDERS = 20_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertThroughput_BatchedVersusRowAtATime() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up
+        insertOneByOne(1_000);
+        insertBatched(1_000);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        insertOneByOne(ORDERS);
+        double rowAtATime = ORDERS / ((System.nanoTime() - start) / 1e9);
+        long rowStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        start = System.nanoTime();
+        insertBatched(ORDERS);
+        double batched = ORDERS / ((System.nanoTime() - start) / 1e9);
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("row-at-a-time: %,.0f inserts/s (%d statements)%n", rowAtATime, rowStatements);
+        System.out.printf("batched:       %,.0f inserts/s (%d statements)%n", batched, batchedStatements);
+
+        assertTrue(batchedStatements < rowStatements);
+    }
+
+    private void insertOneByOne(int count) {
+        for (int i = 0; i < count; i++) {
+            orderRepository.save(newOrder(i));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private void insertBatched(int count) {
+        List<Order> chunk = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            chunk.add(newOrder(i));
+            if (chunk.size() == BATCH_SIZE || i == count - 1) {
+                orderRepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear();
+                chunk.clear();
+            }
+        }
+    }
+
+    private Order newOrder(int i) {
+        return Order.builder()
+                .userId((long) (i % 1000))
+                .productCode("P" + (i % 100))
+                .quantity(1)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.CONFIRMED)
+                .build();
+    }
+}
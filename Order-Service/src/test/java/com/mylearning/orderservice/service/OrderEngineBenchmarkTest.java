@@ -0,0 +1,165 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.StubDownstreams;
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.entity.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Engine benchmark: {@value #ORDERS} orders, {@value #CONCURRENCY} at a time, placed by the blocking engine
+ * ({@link OrderServiceImpl}) and then by the reactive engine ({@link ReactiveOrderServiceImpl}) against stub
+ * downstream services that answer every call after {@value #DOWNSTREAM_LATENCY_MS} ms. Bulkheads and connection
+ * pools are raised so neither engine sheds load, and the blocking lookup pool is sized for every lookup at once.
+ * Logs throughput, latency percentiles and peak JVM threads for each. Run with
+ * {@code mvn test -Dbenchmark=true -Dtest=OrderEngineBenchmarkTest}.
+ */
+@SpringBootTest(properties = {
+        "order.engine=reactive",
+        "eureka.client.enabled=false",
+        "spring.threads.virtual.enabled=false",
+        "order.archive.enabled=false",
+        "order.lookup.pool-size=3000",
+        "order.lookup.queue-capacity=0",
+        "downstream.clients.product-service.max-connections=1000",
+        "downstream.clients.inventory-service.max-connections=1000",
+        "downstream.clients.user-service.max-connections=1000",
+        "downstream.clients.payment-service.max-connections=1000",
+        "downstream.clients.notification-service.max-connections=1000",
+        "resilience4j.bulkhead.instances.product-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.inventory-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.user-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.payment-service.maxConcurrentCalls=5000",
+        "resilience4j.bulkhead.instances.notification-service.maxConcurrentCalls=5000"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class OrderEngineBenchmarkTest {
+
+    private static final int ORDERS = 2_000;
+    private static final int CONCURRENCY = 1_000;
+    private static final long DOWNSTREAM_LATENCY_MS = 50;
+
+    private static StubDownstreams downstreams;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ReactiveOrderService reactiveOrderService;
+
+    @DynamicPropertySource
+    static void downstreamInstances(DynamicPropertyRegistry registry) {
+        downstreams = StubDownstreams.start(DOWNSTREAM_LATENCY_MS, DOWNSTREAM_LATENCY_MS);
+        downstreams.register(registry);
+    }
+
+    @AfterAll
+    static void stopDownstreams() {
+        if (downstreams != null) {
+            downstreams.stop();
+        }
+    }
+
+    @Test
+    void placeOrder_BlockingVersusReactiveEngine() {
+        // Warm up
+        runBlocking(200);
+        runReactive(200);
+
+        Result blocking = runBlocking(ORDERS);
+        Result reactive = runReactive(ORDERS);
+
+        for (Result result : List.of(blocking, reactive)) {
+            log.info("{} engine: {} orders/s, p50 {} ms, p99 {} ms, max {} ms, peak threads {}", result.engine(),
+                    Math.round(result.throughput()), result.percentileMillis(0.50), result.percentileMillis(0.99),
+                    result.percentileMillis(1.0), result.peakThreads());
+        }
+        assertEquals(ORDERS, blocking.latencies().size());
+        assertEquals(ORDERS, reactive.latencies().size());
+        assertTrue(reactive.peakThreads() < blocking.peakThreads(),
+                "reactive peak threads " + reactive.peakThreads() + ", blocking " + blocking.peakThreads());
+    }
+
+    private Result runBlocking(int orders) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            long start = System.nanoTime();
+            List<CompletableFuture<Long>> calls = IntStream.range(0, orders)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        long placed = System.nanoTime();
+                        assertPaid(orderService.placeOrder(request(i)));
+                        return System.nanoTime() - placed;
+                    }, callers))
+                    .toList();
+            List<Long> latencies = calls.stream().map(CompletableFuture::join).toList();
+            return new Result("blocking", latencies, System.nanoTime() - start, threads.getPeakThreadCount());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private Result runReactive(int orders) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<Long> latencies = Flux.range(0, orders)
+                .flatMap(i -> Mono.defer(() -> {
+                    long placed = System.nanoTime();
+                    return reactiveOrderService.placeOrder(request(i)).map(response -> {
+                        assertPaid(response);
+                        return System.nanoTime() - placed;
+                    });
+                }), CONCURRENCY)
+                .collectList()
+                .block(Duration.ofMinutes(5));
+        return new Result("reactive", latencies, System.nanoTime() - start, threads.getPeakThreadCount());
+    }
+
+    private static OrderRequestDto request(int i) {
+        return OrderRequestDto.builder()
+                .userId((long) (i % 100) + 1)
+                .productCode("P" + String.format("%03d", i % 50))
+                .quantity(1)
+                .build();
+    }
+
+    private static void assertPaid(OrderResponseDto response) {
+        assertEquals(OrderStatus.PAID, response.getStatus());
+    }
+
+    private record Result(String engine, List<Long> latencies, long elapsedNanos, int peakThreads) {
+
+        double throughput() {
+            return latencies.size() / (elapsedNanos / 1e9);
+        }
+
+        long percentileMillis(double percentile) {
+            List<Long> sorted = latencies.stream().sorted().toList();
+            int index = (int) Math.min(sorted.size() - 1, Math.round(percentile * (sorted.size() - 1)));
+            return sorted.get(index) / 1_000_000;
+        }
+    }
+}
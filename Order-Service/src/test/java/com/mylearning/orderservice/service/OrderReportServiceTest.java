@@ -0,0 +1,96 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.archive.ArchivedOrder;
+import com.mylearning.orderservice.archive.OrderArchive;
+import com.mylearning.orderservice.dto.DailyRevenueDto;
+import com.mylearning.orderservice.dto.ProductRevenueDto;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.InvalidReportPeriodException;
+import com.mylearning.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @InjectMocks
+    private OrderReportServiceImpl orderReportService;
+
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 2, 1);
+
+    @Test
+    void getRevenueByProduct_ShouldMergeOrdersAndCartLinesAndSortByRevenue() {
+        // Arrange
+        when(orderRepository.revenueByProduct(OrderStatus.PAID, from.atStartOfDay(), to.atStartOfDay())).thenReturn(List.of(
+                new ProductRevenueDto("P001", 2L, 3L, 300.0),
+                new ProductRevenueDto("P002", 1L, 1L, 50.0)));
+        when(orderRepository.revenueByProductFromLines(OrderStatus.PAID, from.atStartOfDay(), to.atStartOfDay())).thenReturn(List.of(
+                new ProductRevenueDto("P002", 1L, 10L, 500.0)));
+
+        // Act
+        List<ProductRevenueDto> report = orderReportService.getRevenueByProduct(from, to);
+
+        // Assert
+        assertEquals(2, report.size());
+        assertEquals(new ProductRevenueDto("P002", 2L, 11L, 550.0), report.get(0));
+        assertEquals(new ProductRevenueDto("P001", 2L, 3L, 300.0), report.get(1));
+    }
+
+    @Test
+    void getRevenueByDay_WhenOrderIsInArchiveAndTable_ShouldCountItOnce() {
+        // Arrange
+        LocalDateTime orderDate = from.atTime(10, 0);
+        ArchivedOrder archived = new ArchivedOrder(7L, 1L, "P001", 2, orderDate, OrderStatus.PAID, 100.0, 200.0, List.of());
+        when(orderArchive.latestOrderDate()).thenReturn(Optional.of(orderDate));
+        when(orderRepository.findIdsOrderedBefore(orderDate.plusSeconds(1))).thenReturn(List.of(7L));
+        when(orderArchive.findArchivedIds(List.of(7L))).thenReturn(Set.of(7L));
+        doAnswer(invocation -> {
+            Consumer<ArchivedOrder> consumer = invocation.getArgument(2);
+            consumer.accept(archived);
+            return null;
+        }).when(orderArchive).forEachBetween(eq(from.atStartOfDay()), eq(to.atStartOfDay()), any());
+        when(orderRepository.revenueByDay(OrderStatus.PAID, from.atStartOfDay(), to.atStartOfDay())).thenReturn(List.of(
+                new DailyRevenueDto(from, 1L, 200.0)));
+
+        // Act
+        List<DailyRevenueDto> report = orderReportService.getRevenueByDay(from, to);
+
+        // Assert
+        assertEquals(List.of(new DailyRevenueDto(from, 1L, 200.0)), report);
+    }
+
+    @Test
+    void getRevenueByDay_WhenPeriodIsEmpty_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidReportPeriodException.class, () -> orderReportService.getRevenueByDay(to, from));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void getRevenueByDay_WhenPeriodTooLong_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidReportPeriodException.class,
+                () -> orderReportService.getRevenueByDay(from, from.plusYears(2)));
+        verifyNoInteractions(orderRepository);
+    }
+}
@@ -1,23 +1,55 @@
 package com.mylearning.orderservice.service;
 
+import com.mylearning.orderservice.archive.ArchivedOrder;
+import com.mylearning.orderservice.archive.OrderArchive;
+import com.mylearning.orderservice.client.InventoryClient;
+import com.mylearning.orderservice.client.NotificationClient;
+import com.mylearning.orderservice.client.PaymentClient;
+import com.mylearning.orderservice.client.ProductClient;
+import com.mylearning.orderservice.client.UserClient;
 import com.mylearning.orderservice.dto.*;
 import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.DownstreamTimeoutException;
 import com.mylearning.orderservice.exception.OrderNotFoundException;
 import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.exception.ProductNotFoundException;
+import com.mylearning.orderservice.exception.ServiceBusyException;
+import com.mylearning.orderservice.metrics.OrderMetrics;
+import com.mylearning.orderservice.queue.DeferredOrderQueue;
 import com.mylearning.orderservice.repository.OrderRepository;
+import com.mylearning.orderservice.util.OrderCursor;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,7 +62,34 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private RestTemplate restTemplate;
+    private OrderWriter orderWriter;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private InventoryClient inventoryClient;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private PaymentClient paymentClient;
+
+    @Mock
+    private NotificationClient notificationClient;
+
+    @Mock
+    private DeferredOrderQueue deferredOrderQueue;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private OrderArchive orderArchive;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -42,12 +101,9 @@ class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Set up service URLs
-        ReflectionTestUtils.setField(orderService, "productServiceUrl", "http://product-service/api/products");
-        ReflectionTestUtils.setField(orderService, "inventoryServiceUrl", "http://inventory-service/api/inventory");
-        ReflectionTestUtils.setField(orderService, "paymentServiceUrl", "http://payment-service/api/payments");
-        ReflectionTestUtils.setField(orderService, "userServiceUrl", "http://user-service/api/users");
-        ReflectionTestUtils.setField(orderService, "notificationServiceUrl", "http://notification-service/api/notifications");
+        ReflectionTestUtils.setField(orderService, "orderLookupExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(orderService, "orderPipelineExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(orderService, "lookupTimeoutMs", 1000L);
 
         orderRequestDto = OrderRequestDto.builder()
                 .userId(1L)
@@ -74,10 +130,10 @@ class OrderServiceTest {
     @Test
     void placeOrder_WithValidRequest_ShouldReturnOrderResponse() {
         // Arrange
-        when(restTemplate.getForObject(contains("/code/P001"), eq(ProductDto.class))).thenReturn(productDto);
-        when(restTemplate.getForObject(contains("isInStock/P001"), eq(Boolean.class))).thenReturn(true);
-        when(restTemplate.getForObject(contains("users/1"), eq(UserDto.class))).thenReturn(userDto);
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+        when(productClient.getByCode("P001")).thenReturn(productDto);
+        when(inventoryClient.isInStock("P001")).thenReturn(true);
+        when(userClient.getById(1L)).thenReturn(userDto);
+        when(orderWriter.create(any(Order.class), anyDouble())).thenAnswer(invocation -> {
             Order savedOrder = invocation.getArgument(0);
             savedOrder.setId(1L);
             return savedOrder;
@@ -92,34 +148,306 @@ class OrderServiceTest {
         assertEquals(orderRequestDto.getProductCode(), response.getProductCode());
         assertEquals(orderRequestDto.getQuantity(), response.getQuantity());
         assertNotNull(response.getOrderDate());
-        verify(orderRepository, times(1)).save(any(Order.class));
-        verify(restTemplate, times(1)).postForEntity(contains("payments/process"), any(), eq(Void.class));
-        verify(restTemplate, times(1)).postForEntity(contains("notifications/send"), any(), eq(Void.class));
+        assertEquals(orderRequestDto.getUserId(), response.getUserId());
+        assertEquals(OrderStatus.PAID, response.getStatus());
+        verify(orderWriter, times(1)).create(argThat(o -> o.getUnitPrice() == 100.0 && o.getTotalAmount() == 200.0), eq(200.0));
+        verify(orderWriter, times(1)).updateStatus(1L, OrderStatus.PAID);
+        verify(paymentClient, times(1)).processPayment(any(PaymentRequest.class));
+        verify(orderMetrics, times(1)).recordOrder(List.of("P001"), 200.0);
+        verify(notificationClient, times(1)).send(any(NotificationRequest.class));
+    }
+
+    @Test
+    void placeOrder_WhenPaymentFails_ShouldMarkOrderPaymentFailed() {
+        // Arrange
+        when(productClient.getByCode("P001")).thenReturn(productDto);
+        when(inventoryClient.isInStock("P001")).thenReturn(true);
+        when(orderWriter.create(any(Order.class), anyDouble())).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            savedOrder.setId(1L);
+            return savedOrder;
+        });
+        doThrow(new RuntimeException("Payment declined")).when(paymentClient).processPayment(any(PaymentRequest.class));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> orderService.placeOrder(orderRequestDto));
+        assertEquals("Payment declined", exception.getMessage());
+        verify(orderWriter, times(1)).updateStatus(1L, OrderStatus.PAYMENT_FAILED);
+        verify(orderWriter, never()).updateStatus(1L, OrderStatus.PAID);
+        verify(notificationClient, never()).send(any(NotificationRequest.class));
+        verifyNoInteractions(orderMetrics);
     }
 
     @Test
     void placeOrder_WhenProductNotFound_ShouldThrowException() {
         // Arrange
-        when(restTemplate.getForObject(contains("/code/P001"), eq(ProductDto.class))).thenReturn(null);
+        when(productClient.getByCode("P001")).thenReturn(null);
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, 
             () -> orderService.placeOrder(orderRequestDto));
         assertEquals("Product not found with code: P001", exception.getMessage());
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderWriter, never()).create(any(Order.class), anyDouble());
     }
 
     @Test
     void placeOrder_WhenOutOfStock_ShouldThrowException() {
         // Arrange
-        when(restTemplate.getForObject(contains("/code/P001"), eq(ProductDto.class))).thenReturn(productDto);
-        when(restTemplate.getForObject(contains("isInStock/P001"), eq(Boolean.class))).thenReturn(false);
+        when(productClient.getByCode("P001")).thenReturn(productDto);
+        when(inventoryClient.isInStock("P001")).thenReturn(false);
 
         // Act & Assert
         OutOfStockException exception = assertThrows(OutOfStockException.class, 
             () -> orderService.placeOrder(orderRequestDto));
         assertEquals("Product is out of stock", exception.getMessage());
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderWriter, never()).create(any(Order.class), anyDouble());
+    }
+
+    @Test
+    void placeOrder_WhenLookupsMissDeadline_ShouldThrowTimeout() {
+        // Arrange: an executor that never runs the lookups
+        ReflectionTestUtils.setField(orderService, "orderLookupExecutor", (Executor) task -> { });
+        ReflectionTestUtils.setField(orderService, "lookupTimeoutMs", 50L);
+
+        // Act & Assert
+        assertThrows(DownstreamTimeoutException.class,
+            () -> orderService.placeOrder(orderRequestDto));
+        verify(orderWriter, never()).create(any(Order.class), anyDouble());
+    }
+
+    @Test
+    void placeOrder_WhenOneLookupFails_ShouldInterruptTheOthers() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        ReflectionTestUtils.setField(orderService, "orderLookupExecutor", executor);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        Answer<Object> hang = invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        };
+        when(productClient.getByCode("P001")).thenAnswer(invocation -> {
+            started.await();
+            throw new RuntimeException("product-service down");
+        });
+        when(inventoryClient.isInStock("P001")).thenAnswer(hang);
+        when(userClient.getById(1L)).thenAnswer(hang);
+
+        try {
+            // Act
+            RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> orderService.placeOrder(orderRequestDto));
+
+            // Assert
+            assertEquals("product-service down", exception.getMessage());
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void acceptOrder_ShouldPersistPendingOrderAndAdvanceStatusInBackground() {
+        // Arrange
+        when(productClient.getByCode("P001")).thenReturn(productDto);
+        when(inventoryClient.isInStock("P001")).thenReturn(true);
+        when(userClient.getById(1L)).thenReturn(userDto);
+        when(orderWriter.accept(any(Order.class))).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            savedOrder.setId(1L);
+            return savedOrder;
+        });
+
+        // Act
+        OrderResponseDto response = orderService.acceptOrder(orderRequestDto);
+
+        // Assert
+        assertEquals(1L, response.getId());
+        assertEquals(OrderStatus.PENDING, response.getStatus());
+        verify(orderWriter, times(1)).confirm(1L, 1L, "P001", 2, 100.0);
+        verify(orderWriter, times(1)).updateStatus(1L, OrderStatus.PAID);
+        verify(notificationClient, times(1)).send(any(NotificationRequest.class));
+    }
+
+    @Test
+    void acceptOrder_WhenOutOfStock_ShouldMarkOrderRejected() {
+        // Arrange
+        when(productClient.getByCode("P001")).thenReturn(productDto);
+        when(inventoryClient.isInStock("P001")).thenReturn(false);
+        when(orderWriter.accept(any(Order.class))).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            savedOrder.setId(1L);
+            return savedOrder;
+        });
+
+        // Act
+        orderService.acceptOrder(orderRequestDto);
+
+        // Assert
+        verify(orderWriter, times(1)).updateStatus(1L, OrderStatus.REJECTED);
+        verify(orderWriter, never()).confirm(anyLong(), anyLong(), anyString(), anyInt(), anyDouble());
+        verify(paymentClient, never()).processPayment(any(PaymentRequest.class));
+    }
+
+    @Test
+    void acceptOrder_WhenPipelineSaturated_ShouldRejectOrder() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "orderPipelineExecutor", (Executor) task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+        when(orderWriter.accept(any(Order.class))).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            savedOrder.setId(1L);
+            return savedOrder;
+        });
+
+        // Act & Assert
+        assertThrows(ServiceBusyException.class, () -> orderService.acceptOrder(orderRequestDto));
+        verify(orderWriter, times(1)).updateStatus(1L, OrderStatus.REJECTED);
+    }
+
+    @Test
+    void placeOrders_ShouldLookUpOnceAndReturnResultPerLine() {
+        // Arrange
+        BatchOrderRequestDto batch = new BatchOrderRequestDto(Arrays.asList(
+                new OrderRequestDto(1L, "P001", 2),
+                new OrderRequestDto(1L, "P404", 1),
+                new OrderRequestDto(2L, "P001", 2)));
+        when(productClient.getByCodes(Arrays.asList("P001", "P404"))).thenReturn(List.of(productDto));
+        when(inventoryClient.areInStock(Arrays.asList("P001", "P404")))
+                .thenReturn(List.of(new InventoryDto("P001", 3, true), new InventoryDto("P404", 0, false)));
+        when(orderWriter.createAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.get(0).setId(10L);
+            return orders;
+        });
+        when(userClient.getById(1L)).thenReturn(userDto);
+
+        // Act
+        BatchOrderResponseDto response = orderService.placeOrders(batch);
+
+        // Assert
+        assertEquals(1, response.getAccepted());
+        assertEquals(2, response.getRejected());
+        assertEquals(OrderStatus.PAID, response.getResults().get(0).getStatus());
+        assertEquals(10L, response.getResults().get(0).getOrder().getId());
+        assertEquals("Product not found with code: P404", response.getResults().get(1).getError());
+        assertEquals("Product is out of stock", response.getResults().get(2).getError());
+        verify(productClient, times(1)).getByCodes(Arrays.asList("P001", "P404"));
+        verify(orderWriter, times(1)).createAll(argThat(orders -> orders.size() == 1), eq(List.of(200.0)));
+        verify(paymentClient, times(1)).processPayment(new PaymentRequest(10L, 1L, 200.0));
+        verify(orderWriter, times(1)).updateStatuses(Map.of(10L, OrderStatus.PAID));
+        verify(orderWriter, never()).updateStatus(anyLong(), any(OrderStatus.class));
+        verify(notificationClient, times(1)).send(new NotificationRequest(10L, 1L, "test@example.com",
+                "Order placed for product: Test Product"));
+    }
+
+    @Test
+    void placeOrders_WhenOnePaymentFails_ShouldMarkOnlyThatOrderPaymentFailed() {
+        // Arrange
+        BatchOrderRequestDto batch = new BatchOrderRequestDto(Arrays.asList(
+                new OrderRequestDto(1L, "P001", 1),
+                new OrderRequestDto(2L, "P001", 1)));
+        when(productClient.getByCodes(List.of("P001"))).thenReturn(List.of(productDto));
+        when(inventoryClient.areInStock(List.of("P001"))).thenReturn(List.of(new InventoryDto("P001", 5, true)));
+        when(orderWriter.createAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.get(0).setId(10L);
+            orders.get(1).setId(11L);
+            return orders;
+        });
+        doThrow(new RuntimeException("Payment declined"))
+                .when(paymentClient).processPayment(new PaymentRequest(11L, 2L, 100.0));
+
+        // Act
+        BatchOrderResponseDto response = orderService.placeOrders(batch);
+
+        // Assert
+        assertEquals(1, response.getAccepted());
+        assertEquals(1, response.getRejected());
+        assertEquals(OrderStatus.PAID, response.getResults().get(0).getStatus());
+        assertEquals(OrderStatus.PAYMENT_FAILED, response.getResults().get(1).getStatus());
+        assertEquals("Payment failed: Payment declined", response.getResults().get(1).getError());
+        verify(orderWriter, times(1)).updateStatuses(Map.of(10L, OrderStatus.PAID, 11L, OrderStatus.PAYMENT_FAILED));
+        verify(userClient, never()).getById(2L);
+    }
+
+    @Test
+    void placeOrders_WhenUserLookupFails_ShouldStillPlaceOrders() {
+        // Arrange
+        BatchOrderRequestDto batch = new BatchOrderRequestDto(List.of(
+                new OrderRequestDto(1L, "P001", 1),
+                new OrderRequestDto(1L, "P001", 1)));
+        when(productClient.getByCodes(List.of("P001"))).thenReturn(List.of(productDto));
+        when(inventoryClient.areInStock(List.of("P001"))).thenReturn(List.of(new InventoryDto("P001", 5, true)));
+        when(orderWriter.createAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.get(0).setId(10L);
+            orders.get(1).setId(11L);
+            return orders;
+        });
+        when(userClient.getById(1L)).thenThrow(new RuntimeException("user-service down"));
+
+        // Act
+        BatchOrderResponseDto response = orderService.placeOrders(batch);
+
+        // Assert: the user is looked up once and only the notifications are skipped
+        assertEquals(2, response.getAccepted());
+        verify(userClient, times(1)).getById(1L);
+        verify(orderWriter, times(1)).updateStatuses(Map.of(10L, OrderStatus.PAID, 11L, OrderStatus.PAID));
+        verifyNoInteractions(notificationClient);
+    }
+
+    @Test
+    void placeCartOrder_ShouldMakeOneCallPerDownstreamAndPayTotal() {
+        // Arrange
+        CartOrderRequestDto cart = new CartOrderRequestDto(1L, Arrays.asList(
+                new CartLineDto("P001", 2),
+                new CartLineDto("P002", 1),
+                new CartLineDto("P001", 1)));
+        ProductDto secondProduct = new ProductDto(2L, "P002", "Second Product", null, 50.0, null, null);
+        when(productClient.getByCodes(Arrays.asList("P001", "P002"))).thenReturn(List.of(productDto, secondProduct));
+        when(inventoryClient.areInStock(Arrays.asList("P001", "P002")))
+                .thenReturn(List.of(new InventoryDto("P001", 5, true), new InventoryDto("P002", 1, true)));
+        when(userClient.getById(1L)).thenReturn(userDto);
+        when(orderWriter.create(any(Order.class), anyDouble())).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            savedOrder.setId(1L);
+            return savedOrder;
+        });
+
+        // Act
+        CartOrderResponseDto response = orderService.placeCartOrder(cart);
+
+        // Assert
+        assertEquals(1L, response.getId());
+        assertEquals(OrderStatus.PAID, response.getStatus());
+        assertEquals(350.0, response.getTotalAmount());
+        assertEquals(2, response.getLines().size());
+        assertEquals(3, response.getLines().get(0).getQuantity());
+        verify(orderWriter, times(1)).create(argThat(o -> o.getLines().size() == 2 && o.getQuantity() == 4), eq(350.0));
+        verify(paymentClient, times(1)).processPayment(new PaymentRequest(1L, 1L, 350.0));
+        verify(orderWriter, times(1)).updateStatus(1L, OrderStatus.PAID);
+        verify(notificationClient, times(1)).send(any(NotificationRequest.class));
+    }
+
+    @Test
+    void placeCartOrder_WhenAnyLineOutOfStock_ShouldRejectWholeCart() {
+        // Arrange
+        CartOrderRequestDto cart = new CartOrderRequestDto(1L, List.of(new CartLineDto("P001", 4)));
+        when(productClient.getByCodes(List.of("P001"))).thenReturn(List.of(productDto));
+        when(inventoryClient.areInStock(List.of("P001"))).thenReturn(List.of(new InventoryDto("P001", 3, true)));
+        when(userClient.getById(1L)).thenReturn(userDto);
+
+        // Act & Assert
+        assertThrows(OutOfStockException.class, () -> orderService.placeCartOrder(cart));
+        verifyNoInteractions(orderWriter, paymentClient, notificationClient);
     }
 
     @Test
@@ -148,6 +476,62 @@ class OrderServiceTest {
             () -> orderService.getOrderById(999L));
     }
 
+    @Test
+    void getOrderById_WhenOrderArchived_ShouldReadFromArchive() {
+        // Arrange
+        when(orderRepository.findById(5L)).thenReturn(Optional.empty());
+        when(orderArchive.find(5L)).thenReturn(Optional.of(new ArchivedOrder(5L, 1L, "P001", 2,
+                LocalDateTime.now().minusYears(2), OrderStatus.PAID, 100.0, 200.0, List.of())));
+
+        // Act
+        OrderResponseDto response = orderService.getOrderById(5L);
+
+        // Assert
+        assertEquals(5L, response.getId());
+        assertEquals(OrderStatus.PAID, response.getStatus());
+    }
+
+    @Test
+    void getOrdersPage_ShouldMergeArchiveAndTableByDateAndId() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Order pendingForYears = Order.builder()
+                .id(3L)
+                .productCode("P001")
+                .quantity(1)
+                .orderDate(now.minusYears(3))
+                .status(OrderStatus.PENDING)
+                .build();
+        when(orderArchive.findPageAfter(null, null, 2)).thenReturn(List.of(
+                new ArchivedOrder(5L, 1L, "P001", 2, now.minusYears(2), OrderStatus.PAID, 100.0, 200.0, List.of()),
+                new ArchivedOrder(6L, 1L, "P001", 2, now.minusYears(1), OrderStatus.PAID, 100.0, 200.0, List.of())));
+        when(orderRepository.findAllByOrderByOrderDateAscIdAsc(PageRequest.of(0, 2))).thenReturn(List.of(pendingForYears, order));
+
+        // Act
+        OrderPageDto page = orderService.getOrdersPage(null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(3L, page.getItems().get(0).getId());
+        assertEquals(5L, page.getItems().get(1).getId());
+        assertEquals(new OrderCursor(now.minusYears(2), 5L).encode(), page.getNextCursor());
+    }
+
+    @Test
+    void getOrdersPage_WhenOrderIsInArchiveAndTable_ShouldListItOnce() {
+        // Arrange
+        when(orderArchive.findPageAfter(null, null, 2)).thenReturn(List.of(
+                new ArchivedOrder(1L, 1L, "P001", 2, order.getOrderDate(), OrderStatus.PAID, 100.0, 200.0, List.of())));
+        when(orderRepository.findAllByOrderByOrderDateAscIdAsc(PageRequest.of(0, 2))).thenReturn(List.of(order));
+
+        // Act
+        OrderPageDto page = orderService.getOrdersPage(null, 2);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
     @Test
     void getAllOrders_ShouldReturnListOfOrders() {
         // Arrange
@@ -171,10 +555,221 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findAll();
     }
 
+    @Test
+    void getOrdersPage_WhenPageIsFull_ShouldReturnCursorOfLastOrder() {
+        // Arrange
+        Order order2 = Order.builder()
+                .id(2L)
+                .productCode("P002")
+                .quantity(1)
+                .orderDate(LocalDateTime.now())
+                .build();
+        when(orderRepository.findAllByOrderByOrderDateAscIdAsc(any(Pageable.class))).thenReturn(Arrays.asList(order, order2));
+
+        // Act
+        OrderPageDto page = orderService.getOrdersPage(null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        OrderCursor next = OrderCursor.decode(page.getNextCursor());
+        assertEquals(order2.getId(), next.id());
+        assertEquals(order2.getOrderDate(), next.orderDate());
+    }
+
+    @Test
+    void getOrdersPage_WithCursor_ShouldSeekPastCursor() {
+        // Arrange
+        String cursor = OrderCursor.of(order).encode();
+        when(orderRepository.findPageAfter(eq(order.getOrderDate()), eq(order.getId()), any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        OrderPageDto page = orderService.getOrdersPage(cursor, 50);
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getOrdersByUser_WhenPageIsFull_ShouldReturnCursorOfOldestOrder() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        OrderSummaryDto newest = new OrderSummaryDto(5L, "P001", 1, now, OrderStatus.PAID);
+        OrderSummaryDto older = new OrderSummaryDto(3L, "P002", 2, now.minusDays(1), OrderStatus.PAID);
+        when(orderRepository.findSummariesByUser(eq(1L), any(Pageable.class))).thenReturn(Arrays.asList(newest, older));
+
+        // Act
+        OrderSummaryPageDto page = orderService.getOrdersByUser(1L, null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        OrderCursor next = OrderCursor.decode(page.getNextCursor());
+        assertEquals(3L, next.id());
+        assertEquals(older.getOrderDate(), next.orderDate());
+    }
+
+    @Test
+    void getOrdersByUser_ShouldIncludeArchivedOrders() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        OrderSummaryDto recent = new OrderSummaryDto(9L, "P001", 1, now, OrderStatus.PAID);
+        when(orderRepository.findSummariesByUser(eq(1L), any(Pageable.class))).thenReturn(List.of(recent));
+        when(orderArchive.findUserPageBefore(1L, null, null, 2)).thenReturn(List.of(
+                new ArchivedOrder(4L, 1L, "P002", 3, now.minusYears(2), OrderStatus.PAID, 10.0, 30.0, List.of())));
+
+        // Act
+        OrderSummaryPageDto page = orderService.getOrdersByUser(1L, null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(9L, page.getItems().get(0).getId());
+        assertEquals(4L, page.getItems().get(1).getId());
+        assertEquals("P002", page.getItems().get(1).getProductCode());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getOrdersByUser_WithCursor_ShouldSeekBeforeCursor() {
+        // Arrange
+        LocalDateTime orderDate = LocalDateTime.now();
+        String cursor = new OrderCursor(orderDate, 3L).encode();
+        when(orderRepository.findSummariesByUserBefore(eq(1L), eq(orderDate), eq(3L), any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        OrderSummaryPageDto page = orderService.getOrdersByUser(1L, cursor, 50);
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(orderRepository, never()).findSummariesByUser(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getAllOrders_WhenOrderIsInArchiveAndTable_ShouldListItOnce() {
+        // Arrange
+        ArchivedOrder archived = new ArchivedOrder(1L, 1L, "P001", 2, order.getOrderDate(), OrderStatus.PAID, 100.0, 200.0, List.of());
+        archiveHoldsCopyOfTableOrder(archived);
+        when(orderRepository.findAll()).thenReturn(List.of(order));
+
+        // Act
+        List<OrderResponseDto> response = orderService.getAllOrders();
+
+        // Assert
+        assertEquals(1, response.size());
+        assertEquals(1L, response.get(0).getId());
+    }
+
+    @Test
+    void streamAllOrders_WhenOrderIsInArchiveAndTable_ShouldStreamItOnce() {
+        // Arrange
+        ArchivedOrder archived = new ArchivedOrder(1L, 1L, "P001", 2, order.getOrderDate(), OrderStatus.PAID, 100.0, 200.0, List.of());
+        archiveHoldsCopyOfTableOrder(archived);
+        when(orderRepository.streamAllOrdered()).thenReturn(Stream.of(order));
+        List<OrderResponseDto> streamed = new ArrayList<>();
+
+        // Act
+        orderService.streamAllOrders(streamed::add);
+
+        // Assert
+        assertEquals(1, streamed.size());
+        assertEquals(1L, streamed.get(0).getId());
+    }
+
+    private void archiveHoldsCopyOfTableOrder(ArchivedOrder archived) {
+        when(orderArchive.latestOrderDate()).thenReturn(Optional.of(archived.orderDate()));
+        when(orderRepository.findIdsOrderedBefore(archived.orderDate().plusSeconds(1))).thenReturn(List.of(archived.id()));
+        when(orderArchive.findArchivedIds(List.of(archived.id()))).thenReturn(Set.of(archived.id()));
+        doAnswer(invocation -> {
+            Consumer<ArchivedOrder> consumer = invocation.getArgument(0);
+            consumer.accept(archived);
+            return null;
+        }).when(orderArchive).forEach(any());
+    }
+
+    @Test
+    void streamAllOrders_ShouldDetachEachOrderAfterMapping() {
+        // Arrange
+        when(orderRepository.streamAllOrdered()).thenReturn(Stream.of(order));
+        List<OrderResponseDto> streamed = new ArrayList<>();
+
+        // Act
+        orderService.streamAllOrders(streamed::add);
+
+        // Assert
+        assertEquals(1, streamed.size());
+        assertEquals(order.getId(), streamed.get(0).getId());
+        verify(entityManager, times(1)).detach(order);
+    }
+
     @Test
     void placeOrderFallback_ShouldThrowRuntimeException() {
         // Act & Assert
         assertThrows(RuntimeException.class, 
             () -> orderService.placeOrderFallback(orderRequestDto, new RuntimeException("Service unavailable")));
     }
+
+    @Test
+    void placeOrderFallback_WhenLookupTimedOut_ShouldRethrowTimeout() {
+        // Arrange
+        DownstreamTimeoutException timeout = new DownstreamTimeoutException("Timed out waiting for inventory-service");
+
+        // Act & Assert
+        assertSame(timeout, assertThrows(DownstreamTimeoutException.class,
+            () -> orderService.placeOrderFallback(orderRequestDto, timeout)));
+    }
+
+    @Test
+    void placeOrderFallback_WhenOrderRejected_ShouldRethrowRejection() {
+        // Arrange
+        OutOfStockException outOfStock = new OutOfStockException("Product is out of stock");
+        ProductNotFoundException notFound = new ProductNotFoundException("Product not found with code: P001");
+
+        // Act & Assert
+        assertSame(outOfStock, assertThrows(OutOfStockException.class,
+            () -> orderService.placeOrderFallback(orderRequestDto, outOfStock)));
+        assertSame(notFound, assertThrows(ProductNotFoundException.class,
+            () -> orderService.placeCartOrderFallback(CartOrderRequestDto.builder().userId(1L).build(), notFound)));
+    }
+
+    @Test
+    void placeOrderFallback_WhenBulkheadFull_ShouldThrowServiceBusy() {
+        // Act & Assert
+        assertThrows(ServiceBusyException.class,
+            () -> orderService.placeOrderFallback(orderRequestDto,
+                    BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("product-service"))));
+    }
+
+    @Test
+    void placeOrdersFallback_WhenBulkheadFull_ShouldThrowServiceBusy() {
+        // Arrange
+        BatchOrderRequestDto batch = new BatchOrderRequestDto(List.of(orderRequestDto));
+
+        // Act & Assert
+        assertThrows(ServiceBusyException.class,
+            () -> orderService.placeOrdersFallback(batch,
+                    BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("inventory-service"))));
+    }
+
+    @Test
+    void placeOrdersFallback_WhenLookupTimedOut_ShouldRethrowTimeout() {
+        // Arrange
+        BatchOrderRequestDto batch = new BatchOrderRequestDto(List.of(orderRequestDto));
+        DownstreamTimeoutException timeout = new DownstreamTimeoutException("Timed out waiting for product-service");
+
+        // Act & Assert
+        assertSame(timeout, assertThrows(DownstreamTimeoutException.class,
+            () -> orderService.placeOrdersFallback(batch, timeout)));
+    }
+
+    @Test
+    void placeOrderFallback_WhenCircuitOpen_ShouldQueueOrder() {
+        // Act
+        OrderResponseDto response = orderService.placeOrderFallback(orderRequestDto,
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("orderService")));
+
+        // Assert
+        assertEquals(OrderStatus.QUEUED, response.getStatus());
+        assertNull(response.getId());
+        verify(deferredOrderQueue, times(1)).enqueue(orderRequestDto);
+    }
 }
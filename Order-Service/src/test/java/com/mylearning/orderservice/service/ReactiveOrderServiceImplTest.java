@@ -0,0 +1,185 @@
+package com.mylearning.orderservice.service;
+
+import com.mylearning.orderservice.client.ReactiveDownstreamClients;
+import com.mylearning.orderservice.dto.NotificationRequest;
+import com.mylearning.orderservice.dto.OrderRequestDto;
+import com.mylearning.orderservice.dto.OrderResponseDto;
+import com.mylearning.orderservice.dto.PaymentRequest;
+import com.mylearning.orderservice.dto.ProductDto;
+import com.mylearning.orderservice.dto.UserDto;
+import com.mylearning.orderservice.entity.Order;
+import com.mylearning.orderservice.entity.OrderStatus;
+import com.mylearning.orderservice.exception.DownstreamTimeoutException;
+import com.mylearning.orderservice.exception.OutOfStockException;
+import com.mylearning.orderservice.metrics.OrderMetrics;
+import com.mylearning.orderservice.queue.DeferredOrderQueue;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderServiceImplTest {
+
+    @Mock
+    private ReactiveDownstreamClients clients;
+
+    @Mock
+    private OrderWriter orderWriter;
+
+    @Mock
+    private DeferredOrderQueue deferredOrderQueue;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ReactiveOrderServiceImpl orderService;
+
+    private OrderRequestDto orderRequestDto;
+    private ProductDto productDto;
+    private UserDto userDto;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        orderService = new ReactiveOrderServiceImpl(clients, orderWriter, deferredOrderQueue, orderMetrics, circuitBreakerRegistry);
+        ReflectionTestUtils.setField(orderService, "lookupTimeoutMs", 1000L);
+
+        orderRequestDto = OrderRequestDto.builder()
+                .userId(1L)
+                .productCode("P001")
+                .quantity(2)
+                .build();
+
+        productDto = new ProductDto();
+        productDto.setId(1L);
+        productDto.setProductCode("P001");
+        productDto.setName("Test Product");
+        productDto.setPrice(100.0);
+
+        userDto = new UserDto(1L, "testuser", "test@example.com");
+    }
+
+    private void savesOrderWithId(Long id) {
+        when(orderWriter.create(any(Order.class), anyDouble())).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            savedOrder.setId(id);
+            return savedOrder;
+        });
+    }
+
+    @Test
+    void placeOrder_WithValidRequest_ShouldPayAndNotify() {
+        // Arrange
+        when(clients.getProductByCode("P001")).thenReturn(Mono.just(productDto));
+        when(clients.isInStock("P001")).thenReturn(Mono.just(true));
+        when(clients.getUserById(1L)).thenReturn(Mono.just(userDto));
+        when(clients.processPayment(any(PaymentRequest.class))).thenReturn(Mono.empty());
+        when(clients.send(any(NotificationRequest.class))).thenReturn(Mono.empty());
+        savesOrderWithId(1L);
+
+        // Act
+        OrderResponseDto response = orderService.placeOrder(orderRequestDto).block();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(1L, response.getId());
+        assertEquals(OrderStatus.PAID, response.getStatus());
+        verify(orderWriter).create(argThat(order -> order.getTotalAmount() == 200.0), eq(200.0));
+        verify(clients).processPayment(argThat(payment -> payment.getAmount() == 200.0));
+        verify(orderWriter).updateStatus(1L, OrderStatus.PAID);
+        verify(orderMetrics).recordOrder(List.of("P001"), 200.0);
+        verify(clients).send(argThat(notification -> notification.getUserEmail().equals("test@example.com")));
+    }
+
+    @Test
+    void placeOrder_WhenOutOfStock_ShouldFailWithoutSavingOrder() {
+        // Arrange
+        when(clients.getProductByCode("P001")).thenReturn(Mono.just(productDto));
+        when(clients.isInStock("P001")).thenReturn(Mono.just(false));
+        when(clients.getUserById(1L)).thenReturn(Mono.just(userDto));
+
+        // Act & Assert
+        assertThrows(OutOfStockException.class, () -> orderService.placeOrder(orderRequestDto).block());
+        verify(orderWriter, never()).create(any(Order.class), anyDouble());
+        verify(clients, never()).processPayment(any(PaymentRequest.class));
+    }
+
+    @Test
+    void placeOrder_WhenLookupFails_ShouldCancelOutstandingLookups() {
+        // Arrange
+        AtomicBoolean userLookupCancelled = new AtomicBoolean();
+        when(clients.getProductByCode("P001")).thenReturn(Mono.delay(Duration.ofMillis(20)).then(Mono.<ProductDto>error(new WebClientRequestException(
+                new RuntimeException("connection refused"), HttpMethod.GET,
+                URI.create("http://product-service/api/products/code/P001"), new HttpHeaders()))));
+        when(clients.isInStock("P001")).thenReturn(Mono.just(true));
+        when(clients.getUserById(1L)).thenReturn(Mono.<UserDto>never().doOnCancel(() -> userLookupCancelled.set(true)));
+
+        // Act & Assert
+        assertThrows(WebClientRequestException.class, () -> orderService.placeOrder(orderRequestDto).block());
+        assertTrue(userLookupCancelled.get());
+        verify(orderWriter, never()).create(any(Order.class), anyDouble());
+    }
+
+    @Test
+    void placeOrder_WhenLookupsExceedTimeout_ShouldThrowDownstreamTimeoutException() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "lookupTimeoutMs", 50L);
+        when(clients.getProductByCode("P001")).thenReturn(Mono.just(productDto));
+        when(clients.isInStock("P001")).thenReturn(Mono.never());
+        when(clients.getUserById(1L)).thenReturn(Mono.just(userDto));
+
+        // Act & Assert
+        assertThrows(DownstreamTimeoutException.class, () -> orderService.placeOrder(orderRequestDto).block());
+        verify(orderWriter, never()).create(any(Order.class), anyDouble());
+    }
+
+    @Test
+    void placeOrder_WhenPaymentFails_ShouldMarkOrderPaymentFailed() {
+        // Arrange
+        when(clients.getProductByCode("P001")).thenReturn(Mono.just(productDto));
+        when(clients.isInStock("P001")).thenReturn(Mono.just(true));
+        when(clients.getUserById(1L)).thenReturn(Mono.just(userDto));
+        when(clients.processPayment(any(PaymentRequest.class))).thenReturn(Mono.error(new RuntimeException("Payment declined")));
+        savesOrderWithId(1L);
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> orderService.placeOrder(orderRequestDto).block());
+        assertEquals("Payment declined", exception.getMessage());
+        verify(orderWriter).updateStatus(1L, OrderStatus.PAYMENT_FAILED);
+        verify(orderWriter, never()).updateStatus(1L, OrderStatus.PAID);
+        verify(clients, never()).send(any(NotificationRequest.class));
+    }
+
+    @Test
+    void placeOrder_WhenCircuitBreakerOpen_ShouldQueueOrder() {
+        // Arrange
+        circuitBreakerRegistry.circuitBreaker("orderService").transitionToOpenState();
+
+        // Act
+        OrderResponseDto response = orderService.placeOrder(orderRequestDto).block();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(OrderStatus.QUEUED, response.getStatus());
+        verify(deferredOrderQueue).enqueue(orderRequestDto);
+        verifyNoInteractions(clients);
+    }
+}
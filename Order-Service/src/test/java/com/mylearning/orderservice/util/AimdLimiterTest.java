@@ -0,0 +1,77 @@
+package com.mylearning.orderservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    @Test
+    void tryAcquire_WhenLimitReached_ShouldReject() {
+        // Arrange
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, 1000);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // Act
+        Optional<AimdLimiter.Permit> permit = limiter.tryAcquire();
+
+        // Assert
+        assertTrue(permit.isEmpty());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void onSuccess_WhenLimitInUse_ShouldIncreaseLimit() {
+        // Arrange
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, 1000);
+        AimdLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // Act
+        first.onSuccess();
+
+        // Assert
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void onFailure_ShouldBackOffButNotBelowMinimum() {
+        // Arrange
+        AimdLimiter limiter = new AimdLimiter(8, 3, 10, 0.5, 1000);
+        List<AimdLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        // Act & Assert
+        permits.get(0).onFailure();
+        assertEquals(4, limiter.getLimit());
+        permits.get(1).onFailure();
+        assertEquals(3, limiter.getLimit());
+        permits.get(2).onFailure();
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void onSuccess_WhenSlowerThanTarget_ShouldBackOff() throws InterruptedException {
+        // Arrange
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 0.5, 1);
+        AimdLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+        Thread.sleep(5);
+
+        // Act
+        permit.onSuccess();
+        permit.onSuccess();
+
+        // Assert
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,93 @@
+package com.mylearning.orderservice.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_WhenPrimaryIsSlow_ShouldReturnHedgeResultAndCancelPrimary() throws InterruptedException {
+        // Arrange
+        Hedger hedger = new Hedger("inventory-service", true, 0.95, 20, executor, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+
+        // Act
+        Boolean result = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryCancelled.countDown();
+                }
+                return false;
+            }
+            return true;
+        });
+
+        // Assert
+        assertTrue(result);
+        assertEquals(2, calls.get());
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.counter("order.client.hedge.sent", "downstream", "inventory-service").count());
+        assertEquals(1.0, meterRegistry.counter("order.client.hedge.wins", "downstream", "inventory-service", "winner", "hedge").count());
+    }
+
+    @Test
+    void execute_WhenPrimaryIsFast_ShouldNotHedge() {
+        // Arrange
+        Hedger hedger = new Hedger("inventory-service", true, 0.95, 1_000, executor, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Boolean result = hedger.execute(() -> {
+            calls.incrementAndGet();
+            return true;
+        });
+
+        // Assert
+        assertTrue(result);
+        assertEquals(1, calls.get());
+        assertEquals(0.0, meterRegistry.counter("order.client.hedge.sent", "downstream", "inventory-service").count());
+        assertEquals(1.0, meterRegistry.counter("order.client.hedge.wins", "downstream", "inventory-service", "winner", "primary").count());
+    }
+
+    @Test
+    void execute_WhenBothAttemptsFail_ShouldRethrowFailure() {
+        // Arrange
+        Hedger hedger = new Hedger("inventory-service", true, 0.95, 10, executor, meterRegistry);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> hedger.execute(() -> {
+            throw new IllegalStateException("inventory down");
+        }));
+        assertEquals("inventory down", exception.getMessage());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mylearning.orderservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingCounterTest {
+
+    private final AtomicLong now = new AtomicLong(10_000);
+    private final RollingCounter counter = new RollingCounter(5, 1000, now::get);
+
+    @Test
+    void sum_ShouldIncludeOnlyBucketsInsideWindow() {
+        // Arrange
+        counter.add(3);
+        now.addAndGet(1000);
+        counter.add(4);
+
+        // Act & Assert
+        assertEquals(7, counter.sum());
+        assertEquals(4, counter.sum(1));
+
+        now.addAndGet(4000);
+        assertEquals(4, counter.sum());
+
+        now.addAndGet(1000);
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    void add_WhenBucketIsReused_ShouldDropOldInterval() {
+        // Arrange
+        counter.add(5);
+        now.addAndGet(5000);
+
+        // Act
+        counter.add(2);
+
+        // Assert
+        assertEquals(2, counter.sum());
+    }
+
+    @Test
+    void add_FromManyThreads_ShouldCountEveryIncrement() throws InterruptedException {
+        // Arrange
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.increment();
+                }
+            });
+        }
+
+        // Act
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertEquals(80_000, counter.sum());
+    }
+}
@@ -0,0 +1,113 @@
+package com.mylearning.orderservice.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private Counter sharedCalls;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        sharedCalls = new SimpleMeterRegistry().counter("shared");
+        singleFlight = new SingleFlight<>(sharedCalls);
+    }
+
+    @Test
+    void execute_WhenCallInFlight_ShouldShareItsResult() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("P001", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "product";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("P001", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        while (sharedCalls.count() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("product", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("product", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_AfterCallCompletes_ShouldCallAgain() {
+        // Act
+        String first = singleFlight.execute("P001", () -> "first");
+        String second = singleFlight.execute("P001", () -> "second");
+
+        // Assert
+        assertEquals("first", first);
+        assertEquals("second", second);
+        assertEquals(0, sharedCalls.count());
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldPropagateFailure() {
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> singleFlight.execute("P001", () -> {
+                throw new IllegalStateException("product-service down");
+            }));
+        assertEquals("product-service down", exception.getMessage());
+        assertEquals("recovered", singleFlight.execute("P001", () -> "recovered"));
+    }
+
+    @Test
+    void execute_WhenInFlightCallThrowsError_ShouldFailWaitingCallers() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("P001", () -> {
+            started.countDown();
+            await(release);
+            throw new StackOverflowError("product mapping recursed");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("P001", () -> "other"));
+        while (sharedCalls.count() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+        assertInstanceOf(StackOverflowError.class, followerFailure.getCause());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
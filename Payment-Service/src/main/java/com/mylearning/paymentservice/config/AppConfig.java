@@ -1,5 +1,10 @@
 package com.mylearning.paymentservice.config;
 
+import com.mylearning.commonconfig.client.DownstreamRestTemplateFactory;
+import com.mylearning.commonconfig.retry.DownstreamRetry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,7 +12,21 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class AppConfig {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @LoadBalanced
+    public RestTemplate restTemplate(DownstreamRestTemplateFactory factory) {
+        return factory.create("user-service");
+    }
+
+    /**
+     * Retry policy for user-service lookups: jittered exponential backoff within a retry budget.
+     */
+    @Bean
+    public DownstreamRetry downstreamRetry(@Value("${payment.retry.max-attempts:3}") int maxAttempts,
+                                           @Value("${payment.retry.base-delay-ms:100}") long baseDelayMs,
+                                           @Value("${payment.retry.max-delay-ms:1000}") long maxDelayMs,
+                                           @Value("${payment.retry.budget-ratio:0.1}") double budgetRatio,
+                                           @Value("${payment.retry.budget-max-tokens:10}") int budgetMaxTokens,
+                                           MeterRegistry meterRegistry) {
+        return new DownstreamRetry("payment.client.retries", maxAttempts, baseDelayMs, maxDelayMs, budgetRatio, budgetMaxTokens, meterRegistry);
     }
 }
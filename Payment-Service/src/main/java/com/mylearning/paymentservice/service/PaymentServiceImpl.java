@@ -1,5 +1,6 @@
 package com.mylearning.paymentservice.service;
 
+import com.mylearning.commonconfig.retry.DownstreamRetry;
 import com.mylearning.paymentservice.dto.PaymentRequestDto;
 import com.mylearning.paymentservice.dto.PaymentResponseDto;
 import com.mylearning.paymentservice.dto.UserDto;
@@ -10,7 +11,6 @@ import com.mylearning.paymentservice.exception.PaymentFailureException;
 import com.mylearning.paymentservice.exception.PaymentNotFoundException;
 import com.mylearning.paymentservice.repository.PaymentRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -31,16 +31,16 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final RestTemplate restTemplate;
+    private final DownstreamRetry downstreamRetry;
 
     @Override
     @CircuitBreaker(name = "paymentService", fallbackMethod = "handlePaymentFailure")
-    @Retry(name = "paymentService")
     @Transactional(rollbackFor = Exception.class, timeout = 30, propagation = Propagation.REQUIRED)
     public PaymentResponseDto processPayment(PaymentRequestDto request) {
         // Validate user by calling user-service
         String userServiceUrl = "http://user-service/api/users/" + request.getUserId();
 
-        UserDto user = restTemplate.getForObject(userServiceUrl, UserDto.class);
+        UserDto user = downstreamRetry.execute("user-service", () -> restTemplate.getForObject(userServiceUrl, UserDto.class));
 
         if (user == null) {
             throw new PaymentFailureException("User not found");
@@ -1,5 +1,6 @@
 package com.mylearning.paymentservice.service;
 
+import com.mylearning.commonconfig.retry.DownstreamRetry;
 import com.mylearning.paymentservice.dto.PaymentRequestDto;
 import com.mylearning.paymentservice.dto.PaymentResponseDto;
 import com.mylearning.paymentservice.dto.UserDto;
@@ -7,11 +8,13 @@ import com.mylearning.paymentservice.entity.Payment;
 import com.mylearning.paymentservice.exception.PaymentFailureException;
 import com.mylearning.paymentservice.exception.PaymentNotFoundException;
 import com.mylearning.paymentservice.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestTemplate;
 
@@ -33,6 +36,9 @@ class PaymentServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private DownstreamRetry downstreamRetry = new DownstreamRetry("payment.client.retries", 1, 0, 0, 0.1, 10, new SimpleMeterRegistry());
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -35,4 +35,12 @@ public class ProductController {
     public ResponseEntity<ProductResponseDto> getByProductCode(@PathVariable("productCode") String productCode) {
         return ResponseEntity.ok(productService.getByProductCode(productCode));
     }
+
+    /**
+     * Looks up many products in one call. Unknown codes are left out of the response.
+     */
+    @PostMapping("/codes")
+    public ResponseEntity<List<ProductResponseDto>> getByProductCodes(@RequestBody List<String> productCodes) {
+        return ResponseEntity.ok(productService.getByProductCodes(productCodes));
+    }
 }
@@ -10,4 +10,5 @@ public interface ProductService {
     public List<ProductResponseDto> getAll();
     public ProductResponseDto getById(Long id);
     public ProductResponseDto getByProductCode(String productCode);
+    public List<ProductResponseDto> getByProductCodes(List<String> productCodes);
 }
@@ -54,4 +54,12 @@ public class ProductServiceImpl implements ProductService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true, timeout = 10)
+    public List<ProductResponseDto> getByProductCodes(List<String> productCodes) {
+        return productRepository.findByProductCodeIn(productCodes).stream()
+                .map(ProductMapper::mapToProductResponseDto)
+                .toList();
+    }
+
 }
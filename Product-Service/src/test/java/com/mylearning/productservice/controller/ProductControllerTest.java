@@ -120,6 +120,21 @@ class ProductControllerTest {
         verify(productService, times(1)).getByProductCode("P001");
     }
 
+    @Test
+    void getProductsByProductCodes_ShouldReturnFoundProducts() throws Exception {
+        List<String> productCodes = Arrays.asList("P001", "P404");
+        when(productService.getByProductCodes(productCodes)).thenReturn(Arrays.asList(productResponseDto));
+
+        mockMvc.perform(post("/api/products/codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productCodes)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].productCode", is("P001")));
+
+        verify(productService, times(1)).getByProductCodes(productCodes);
+    }
+
     @Test
     void createProduct_WithInvalidData_ShouldReturnBadRequest() throws Exception {
         ProductRequestDto invalidProduct = new ProductRequestDto();
@@ -0,0 +1,32 @@
+package com.mylearning.commonconfig.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Per-downstream HTTP client settings for every service that depends on common-config, and the
+ * {@link DownstreamRestTemplateFactory} for services that have Apache HttpClient 5 on the classpath.
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties(DownstreamClientProperties.class)
+public class DownstreamClientAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({HttpClients.class, RestTemplate.class})
+    static class DownstreamRestTemplateConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public DownstreamRestTemplateFactory downstreamRestTemplateFactory(DownstreamClientProperties properties,
+                                                                           MeterRegistry meterRegistry) {
+            return new DownstreamRestTemplateFactory(properties, meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mylearning.commonconfig.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-downstream HTTP client settings, keyed by service id, e.g.
+ * {@code downstream.clients.product-service.read-timeout=2s}. Services without an entry use the defaults.
+ */
+@Data
+@ConfigurationProperties(prefix = "downstream")
+public class DownstreamClientProperties {
+
+    private Map<String, Settings> clients = new HashMap<>();
+
+    public Settings forClient(String downstream) {
+        return clients.getOrDefault(downstream, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration readTimeout = Duration.ofSeconds(3);
+        private Duration poolAcquireTimeout = Duration.ofMillis(500);
+        private int maxConnections = 50;
+        private Duration idleTimeout = Duration.ofSeconds(30);
+    }
+}
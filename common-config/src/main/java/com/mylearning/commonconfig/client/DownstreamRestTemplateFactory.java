@@ -0,0 +1,78 @@
+package com.mylearning.commonconfig.client;
+
+import com.mylearning.commonconfig.deadline.DeadlinePropagationInterceptor;
+import com.mylearning.commonconfig.deadline.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Builds one pooled, keep-alive HTTP client per downstream service so connections are reused across calls
+ * and a slow service can only exhaust its own pool. Pool usage is published as {@code httpcomponents.httpclient.pool.*}
+ * meters tagged with the downstream name. Calls carry the caller's remaining {@link RequestDeadline} and never wait
+ * longer than it allows. Registered by {@link DownstreamClientAutoConfiguration}.
+ */
+@RequiredArgsConstructor
+public class DownstreamRestTemplateFactory {
+
+    private final DownstreamClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RestTemplate create(String downstream) {
+        DownstreamClientProperties.Settings settings = properties.forClient(downstream);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.getReadTimeout()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, downstream).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.getPoolAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(settings.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(settings.getIdleTimeout()))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext(settings));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(new DeadlinePropagationInterceptor());
+        return restTemplate;
+    }
+
+    /**
+     * Shortens the pool-acquire and response timeouts of a call to the time left on the request deadline, if any.
+     */
+    private HttpContext deadlineContext(DownstreamClientProperties.Settings settings) {
+        if (!RequestDeadline.isSet()) {
+            return null;
+        }
+        long remainingMs = Math.max(1, RequestDeadline.remainingMillis());
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(Math.min(settings.getPoolAcquireTimeout().toMillis(), remainingMs)))
+                .setResponseTimeout(Timeout.ofMilliseconds(Math.min(settings.getReadTimeout().toMillis(), remainingMs)))
+                .build());
+        return context;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mylearning.commonconfig.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Request deadlines for every service that depends on common-config: the {@link DeadlineFilter} on servlet
+ * applications, and a {@link DeadlineAwareTransactionManager} wherever JPA is set up. Runs before Boot's JPA
+ * auto-configuration so its default transaction manager backs off.
+ */
+@AutoConfiguration(after = DataSourceAutoConfiguration.class, before = HibernateJpaAutoConfiguration.class)
+public class DeadlineAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class DeadlineFilterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public DeadlineFilter deadlineFilter(ObjectMapper objectMapper,
+                                             @Value("${request.deadline.default-ms:0}") long defaultTimeoutMs) {
+            return new DeadlineFilter(objectMapper, defaultTimeoutMs);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({JpaTransactionManager.class, EntityManagerFactory.class})
+    @ConditionalOnSingleCandidate(DataSource.class)
+    static class DeadlineTransactionManagerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TransactionManager.class)
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new DeadlineAwareTransactionManager(entityManagerFactory);
+        }
+    }
+}
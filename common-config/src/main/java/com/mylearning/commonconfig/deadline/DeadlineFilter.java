@@ -0,0 +1,76 @@
+package com.mylearning.commonconfig.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the {@link RequestDeadline} for each request from its {@value RequestDeadline#HEADER} header (or
+ * {@code request.deadline.default-ms} when absent) and rejects requests whose caller has already given up with 504.
+ * Registered by {@link DeadlineAutoConfiguration}.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final long defaultTimeoutMs;
+
+    public DeadlineFilter(ObjectMapper objectMapper, long defaultTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long timeoutMs = timeoutMs(request.getHeader(RequestDeadline.HEADER));
+        if (timeoutMs != null && timeoutMs <= 0) {
+            log.debug("Rejected {} {}: request deadline already passed", request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+        if (timeoutMs != null) {
+            RequestDeadline.start(timeoutMs);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private Long timeoutMs(String header) {
+        if (header != null) {
+            try {
+                return Long.parseLong(header.trim());
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed {} header: {}", RequestDeadline.HEADER, header);
+            }
+        }
+        return defaultTimeoutMs > 0 ? defaultTimeoutMs : null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> errorDetails = new LinkedHashMap<>();
+        errorDetails.put("timestamp", LocalDateTime.now().toString());
+        errorDetails.put("message", "Request deadline exceeded");
+        errorDetails.put("status", HttpStatus.GATEWAY_TIMEOUT.value());
+        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+}
@@ -0,0 +1,27 @@
+package com.mylearning.commonconfig.deadline;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Forwards the time left on the {@link RequestDeadline} to the next hop, and fails fast instead of calling a
+ * downstream service once it has run out.
+ */
+public class DeadlinePropagationInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (RequestDeadline.isSet()) {
+            long remainingMs = RequestDeadline.remainingMillis();
+            if (remainingMs <= 0) {
+                throw new DeadlineExceededException("Request deadline exceeded before calling " + request.getURI().getHost());
+            }
+            request.getHeaders().set(RequestDeadline.HEADER, String.valueOf(remainingMs));
+        }
+        return execution.execute(request, body);
+    }
+}
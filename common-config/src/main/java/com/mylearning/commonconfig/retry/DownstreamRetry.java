@@ -0,0 +1,96 @@
+package com.mylearning.commonconfig.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retries transient downstream failures (I/O errors and 5xx responses) with exponential backoff and full
+ * jitter. Each downstream has its own {@link RetryBudget}, so a failing service sees at most a small fraction
+ * of extra traffic instead of a multiple of it. Retries are counted under the given meter name, e.g.
+ * {@code order.client.retries{downstream, outcome=attempted|denied}}.
+ */
+public class DownstreamRetry {
+
+    private final String meterName;
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final double budgetRatio;
+    private final int budgetMaxTokens;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    public DownstreamRetry(String meterName, int maxAttempts, long baseDelayMs, long maxDelayMs, double budgetRatio,
+                           int budgetMaxTokens, MeterRegistry meterRegistry) {
+        this.meterName = meterName;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.budgetRatio = budgetRatio;
+        this.budgetMaxTokens = budgetMaxTokens;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String downstream, Supplier<T> call) {
+        RetryBudget budget = budget(downstream);
+        budget.onRequest();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (!shouldRetry(downstream, budget, attempt, e)) {
+                    throw e;
+                }
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    protected RetryBudget budget(String downstream) {
+        return budgets.computeIfAbsent(downstream, name -> new RetryBudget(budgetRatio, budgetMaxTokens));
+    }
+
+    /**
+     * Whether a failed {@code attempt} may be retried: attempts left, a transient failure, and a token in the
+     * downstream's retry budget. Counts the retry as attempted or denied.
+     */
+    protected boolean shouldRetry(String downstream, RetryBudget budget, int attempt, Throwable failure) {
+        if (attempt >= maxAttempts || !isRetryable(failure)) {
+            return false;
+        }
+        if (!budget.tryAcquireRetry()) {
+            meterRegistry.counter(meterName, "downstream", downstream, "outcome", "denied").increment();
+            return false;
+        }
+        meterRegistry.counter(meterName, "downstream", downstream, "outcome", "attempted").increment();
+        return true;
+    }
+
+    protected boolean isRetryable(Throwable e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    protected long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void backoff(int attempt, RuntimeException cause) {
+        long delayMs = backoffMillis(attempt);
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mylearning.commonconfig.retry;
+
+/**
+ * Token bucket limiting retries to a fraction of requests. Every request deposits {@code ratio} tokens (up to
+ * {@code maxTokens}) and every retry spends one, so retries stay capped at roughly {@code ratio} of traffic
+ * while a downstream is failing, with a small reserve for isolated failures.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquireRetry() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
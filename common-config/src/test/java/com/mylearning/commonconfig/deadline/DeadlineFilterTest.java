@@ -0,0 +1,70 @@
+package com.mylearning.commonconfig.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineFilterTest {
+
+    private final DeadlineFilter filter = new DeadlineFilter(new ObjectMapper(), 0);
+
+    @Test
+    void doFilter_WithTimeoutHeader_ShouldExposeDeadlineDuringRequestOnly() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.addHeader(RequestDeadline.HEADER, "2000");
+        AtomicLong remaining = new AtomicLong();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse res) {
+                        remaining.set(RequestDeadline.remainingMillis());
+                    }
+                }));
+
+        // Assert
+        assertTrue(remaining.get() > 0 && remaining.get() <= 2000);
+        assertFalse(RequestDeadline.isSet());
+    }
+
+    @Test
+    void doFilter_WhenDeadlineAlreadyPassed_ShouldRejectWithGatewayTimeout() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.addHeader(RequestDeadline.HEADER, "0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(504, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_WithoutHeaderOrDefault_ShouldNotSetDeadline() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(Long.MAX_VALUE, RequestDeadline.remainingMillis());
+    }
+}
@@ -0,0 +1,77 @@
+package com.mylearning.commonconfig.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamRetryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void execute_WhenTransientFailure_ShouldRetryUntilSuccess() {
+        // Arrange
+        DownstreamRetry retry = new DownstreamRetry("order.client.retries", 3, 0, 0, 0.1, 10, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String result = retry.execute("product-service", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return "product";
+        });
+
+        // Assert
+        assertEquals("product", result);
+        assertEquals(3, calls.get());
+        assertEquals(2.0, meterRegistry.counter("order.client.retries", "downstream", "product-service", "outcome", "attempted").count());
+    }
+
+    @Test
+    void execute_WhenClientError_ShouldNotRetry() {
+        // Arrange
+        DownstreamRetry retry = new DownstreamRetry("order.client.retries", 3, 0, 0, 0.1, 10, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(HttpClientErrorException.class, () -> retry.execute("product-service", () -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_WhenBudgetExhausted_ShouldDenyRetries() {
+        // Arrange
+        DownstreamRetry retry = new DownstreamRetry("order.client.retries", 2, 0, 0, 0.1, 2, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ResourceAccessException.class, () -> retry.execute("inventory-service", () -> {
+                calls.incrementAndGet();
+                throw new ResourceAccessException("connection refused");
+            }));
+        }
+
+        // Assert: the two reserve tokens pay for two retries, then every retry is denied
+        assertEquals(7, calls.get());
+        assertEquals(2.0, meterRegistry.counter("order.client.retries", "downstream", "inventory-service", "outcome", "attempted").count());
+        assertEquals(3.0, meterRegistry.counter("order.client.retries", "downstream", "inventory-service", "outcome", "denied").count());
+    }
+}